@@ -0,0 +1,119 @@
+package com.example.my_board.filter;
+
+import com.example.my_board.model.repository.RefreshTokenStore;
+import com.example.my_board.service.TokenRefreshService;
+import com.example.my_board.service.TokenRevocationService;
+import com.example.my_board.util.JwtUtil;
+import com.example.my_board.util.JwtUtilBenchmark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 한 번 통과 비용 (SecurityConfig와 같은 순서: RefreshJwtFilter -> JwtFilter)
+ * - validToken: 로그인한 사용자의 일반 요청 (토큰 검증 캐시 hit, claims-only)
+ * - expiredToken: access 토큰 만료 -> refresh 토큰 교체 후 재발급 (결과 보관 없이 매번 새로 발급)
+ * - noToken: 로그인하지 않은 요청 (쿠키 조회만)
+ * 요청/응답 객체는 매번 새로 만들므로 (실제 요청과 같음) 그 할당도 결과에 포함됨
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthFilterBenchmark {
+    private static final String USERNAME = "user1";
+
+    private FilterChain chain;
+    private Cookie[] validCookies;
+    private Cookie[] expiredCookies;
+    private Cookie[] noTokenCookies;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtUtilBenchmark.newJwtUtil(JwtUtilBenchmark.ACCESS_EXPIRY, 10_000);
+        // 같은 키로 이미 만료된 access 토큰을 만드는 용도
+        JwtUtil expiredIssuer = JwtUtilBenchmark.newJwtUtil(-60_000L, 0);
+
+        String accessToken = jwtUtil.generateToken(USERNAME, "ROLE_USER", false);
+        String expiredToken = expiredIssuer.generateToken(USERNAME, "ROLE_USER", false);
+        String refreshToken = jwtUtil.generateToken(USERNAME, "ROLE_USER", true);
+
+        UserDetails user = User.withUsername(USERNAME).password("").roles("USER").build();
+        UserDetailsService userDetailsService = username -> user;
+
+        // 지표 기록 비용도 실제 요청과 같게 포함
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 폐기된 토큰이 없는 상태 (Bloom 필터 음성 -> Redis 조회 없음), 리스너 컨테이너는 시작하지 않음
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(
+                jwtUtil, null, new RedisMessageListenerContainer(), 100_000, 0.01);
+        TokenRefreshService tokenRefreshService = new TokenRefreshService(
+                jwtUtil, new AcceptingRefreshTokenStore(meterRegistry), tokenRevocationService, Duration.ZERO);
+        RefreshJwtFilter refreshJwtFilter = new RefreshJwtFilter(
+                jwtUtil, userDetailsService, tokenRefreshService, meterRegistry);
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, userDetailsService, true, tokenRevocationService, meterRegistry);
+        FilterChain end = (request, response) -> {
+        };
+        FilterChain toJwtFilter = (request, response) -> jwtFilter.doFilter(request, response, end);
+        chain = (request, response) -> refreshJwtFilter.doFilter(request, response, toJwtFilter);
+
+        Cookie session = new Cookie("JSESSIONID", "0123456789ABCDEF0123456789ABCDEF");
+        Cookie analytics = new Cookie("_ga", "GA1.1.1234567890.1700000000");
+        Cookie refresh = new Cookie("refresh_token", refreshToken);
+        validCookies = new Cookie[]{session, analytics, new Cookie("access_token", accessToken), refresh};
+        expiredCookies = new Cookie[]{session, analytics, new Cookie("access_token", expiredToken), refresh};
+        noTokenCookies = new Cookie[]{session, analytics};
+    }
+
+    @Benchmark
+    public Authentication validToken() throws ServletException, IOException {
+        return run(validCookies);
+    }
+
+    @Benchmark
+    public Authentication expiredToken() throws ServletException, IOException {
+        return run(expiredCookies);
+    }
+
+    @Benchmark
+    public Authentication noToken() throws ServletException, IOException {
+        return run(noTokenCookies);
+    }
+
+    private Authentication run(Cookie[] cookies) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.setCookies(cookies);
+        try {
+            chain.doFilter(request, new MockHttpServletResponse());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // 교체를 항상 허용하는 저장소 (Redis 없이 필터 자체 비용만 측정, 같은 refresh 쿠키를 계속 사용)
+    private static class AcceptingRefreshTokenStore extends RefreshTokenStore {
+        AcceptingRefreshTokenStore(SimpleMeterRegistry meterRegistry) {
+            super(null, meterRegistry);
+        }
+
+        // 항상 이 요청이 교체한 것으로 (결과를 그대로 돌려줌)
+        @Override
+        public String rotate(String username, String presented, String next, Duration ttl,
+                             String result, Duration grace) {
+            return result;
+        }
+    }
+}
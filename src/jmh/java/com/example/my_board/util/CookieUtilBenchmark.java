@@ -0,0 +1,57 @@
+package com.example.my_board.util;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CookieUtil.findCookie 벤치마크
+ * 실제 브라우저 요청처럼 분석/세션 쿠키 사이에 토큰 쿠키가 섞여 있는 경우
+ * - cookieCount: 요청에 들어있는 쿠키 수
+ * - 찾는 쿠키가 앞/뒤에 있을 때, 없을 때 (로그인 안 한 사용자)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CookieUtilBenchmark {
+
+    @Param({"3", "12"})
+    public int cookieCount;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        String accessToken = JwtUtilBenchmark.newJwtUtil(JwtUtilBenchmark.ACCESS_EXPIRY, 0)
+                .generateToken("user1", "ROLE_USER", false);
+        List<Cookie> cookies = new ArrayList<>();
+        cookies.add(new Cookie("access_token", accessToken));
+        String[] others = {"JSESSIONID", "_ga", "_gid", "_gat", "_fbp", "theme", "lang",
+                "consent", "ab_bucket", "recent_posts", "tz", "ref"};
+        for (int i = 0; cookies.size() < cookieCount - 1; i++) {
+            cookies.add(new Cookie(others[i], "value-" + i + "-0123456789abcdef"));
+        }
+        cookies.add(new Cookie("refresh_token", accessToken));
+        request = new MockHttpServletRequest();
+        request.setCookies(cookies.toArray(Cookie[]::new));
+    }
+
+    @Benchmark
+    public String findFirst() {
+        return CookieUtil.findCookie(request, "access_token");
+    }
+
+    @Benchmark
+    public String findLast() {
+        return CookieUtil.findCookie(request, "refresh_token");
+    }
+
+    @Benchmark
+    public String findMissing() {
+        return CookieUtil.findCookie(request, "missing_cookie");
+    }
+}
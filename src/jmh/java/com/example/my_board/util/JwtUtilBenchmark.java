@@ -0,0 +1,63 @@
+package com.example.my_board.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 벤치마크 (요청마다 실행되는 토큰 발급/검증 비용)
+ * - cached: 같은 토큰이 다시 온 경우 (검증 결과 캐시 hit, 일반적인 요청)
+ * - uncached: 처음 보는 토큰 (HMAC 서명 검증 + JSON 파싱), 캐시 크기 0으로 매번 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+    // HS256 키는 32바이트 이상
+    public static final String SECRET = "benchmark-secret-key-for-jmh-0123456789abcdef";
+    public static final long ACCESS_EXPIRY = 60 * 60 * 1000L;
+    public static final long REFRESH_EXPIRY = 24 * 60 * 60 * 1000L;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    public static JwtUtil newJwtUtil(long accessExpiry, long tokenCacheSize) {
+        return new JwtUtil(SECRET, accessExpiry, REFRESH_EXPIRY, tokenCacheSize, Duration.ofMinutes(5));
+    }
+
+    @Setup
+    public void setUp() {
+        jwtUtil = newJwtUtil(ACCESS_EXPIRY, 10_000);
+        uncachedJwtUtil = newJwtUtil(ACCESS_EXPIRY, 0);
+        token = jwtUtil.generateToken("user1", "ROLE_USER", false);
+        jwtUtil.getClaims(token); // 캐시 채우기
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("user1", "ROLE_USER", false);
+    }
+
+    @Benchmark
+    public Claims getClaimsCached() {
+        return jwtUtil.getClaims(token);
+    }
+
+    @Benchmark
+    public Claims getClaimsUncached() {
+        return uncachedJwtUtil.getClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedJwtUtil.validateToken(token);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.my_board.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트 하나의 응답 시간 기록 (나노초)
+ * 측정 구간 전체의 샘플을 그대로 모았다가 끝에서 정렬해서 백분위 계산
+ * (부하 테스트 한 번에 엔드포인트당 수십만 건 정도라 메모리는 문제 없음)
+ */
+class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<String, Long> statuses = new TreeMap<>();
+
+    synchronized void record(long latencyNanos, String status, boolean error) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+        statuses.merge(status, 1L, Long::sum);
+    }
+
+    synchronized Map<String, Object> summary(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(count / durationSeconds));
+        summary.put("meanMillis", round(count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0));
+        summary.put("p50Millis", percentileMillis(sorted, 0.50));
+        summary.put("p99Millis", percentileMillis(sorted, 0.99));
+        summary.put("p999Millis", percentileMillis(sorted, 0.999));
+        summary.put("maxMillis", count == 0 ? 0 : round(sorted[count - 1] / 1_000_000.0));
+        summary.put("statuses", new TreeMap<>(statuses));
+        return summary;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return round(sorted[Math.max(0, index)] / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
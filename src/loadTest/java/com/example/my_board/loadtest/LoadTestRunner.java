@@ -0,0 +1,351 @@
+package com.example.my_board.loadtest;
+
+import com.example.my_board.MyBoardApplication;
+import com.example.my_board.service.PostSearchService;
+import com.example.my_board.util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest)
+ * 1. 내장 Redis + H2로 MyBoardApplication 실행 (loadtest 프로필)
+ * 2. 사용자/게시물 생성, 일부 사용자는 미리 로그인해서 쿠키 보관
+ * 3. 목표 처리량(rate)으로 시나리오를 고르게 발생시킴 (open-loop)
+ *    - 응답 시간은 "보냈어야 할 시각"부터 측정 -> 서버가 밀리면 대기 시간까지 지연에 포함됨
+ * 4. 엔드포인트별 처리량/p50/p99/p999를 JSON으로 저장
+ *
+ * 설정 (-Ploadtest.xxx=값): users, posts, sessions, rate(초당 요청 수), duration/warmup(초), threads, report
+ */
+public class LoadTestRunner {
+
+    enum Scenario {
+        BROWSE("GET /posts", 50),
+        OPEN_POST("GET /posts/{id}", 35),
+        CREATE_POST("POST /posts/new", 5),
+        LOGIN("POST /auth/login", 5),
+        REFRESH("GET /posts (token refresh)", 5);
+
+        final String endpoint;
+        final int weight;
+
+        Scenario(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+    }
+
+    record Options(int users, int posts, int sessions, int rate, int durationSeconds,
+                   int warmupSeconds, int threads, Path report) {
+        static Options fromSystemProperties() {
+            return new Options(
+                    Integer.getInteger("loadtest.users", 1000),
+                    Integer.getInteger("loadtest.posts", 100_000),
+                    Integer.getInteger("loadtest.sessions", 100),
+                    Integer.getInteger("loadtest.rate", 200),
+                    Integer.getInteger("loadtest.duration", 60),
+                    Integer.getInteger("loadtest.warmup", 10),
+                    Integer.getInteger("loadtest.threads", 64),
+                    Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json")));
+        }
+    }
+
+    // 미리 로그인한 사용자의 쿠키 (응답의 Set-Cookie로 갱신)
+    record Session(String username, Map<String, String> cookies, String expiredAccessToken) {
+    }
+
+    private final Options options;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final List<Long> postIds;
+    private final List<Session> sessions = new ArrayList<>();
+    private final Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+    private final LatencyRecorder total = new LatencyRecorder();
+
+    LoadTestRunner(Options options, String baseUrl, List<Long> postIds) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.postIds = postIds;
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Scenario scenario : Scenario.values()) {
+            recorders.put(scenario, new LatencyRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.fromSystemProperties();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(MyBoardApplication.class).run(
+                    "--spring.profiles.active=loadtest",
+                    "--server.port=0",
+                    "--spring.data.redis.port=" + redisPort);
+            Environment env = context.getEnvironment();
+
+            long seedStart = System.nanoTime();
+            LoadTestSeeder seeder = new LoadTestSeeder(
+                    context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class));
+            seeder.seedUsers(options.users());
+            seeder.seedPosts(options.posts());
+            context.getBean(PostSearchService.class).rebuild();
+            System.out.printf("데이터 생성 완료: 사용자 %d명, 게시물 %d건 (%d ms)%n",
+                    options.users(), options.posts(), (System.nanoTime() - seedStart) / 1_000_000);
+
+            // access 토큰 만료 후 재발급 시나리오용 (같은 키로 이미 만료된 토큰 발급)
+            JwtUtil expiredIssuer = new JwtUtil(
+                    env.getRequiredProperty("jwt.secret"),
+                    -60_000L,
+                    env.getRequiredProperty("jwt.expiry.refresh", Long.class),
+                    0,
+                    Duration.ofMinutes(5));
+
+            LoadTestRunner runner = new LoadTestRunner(
+                    options, "http://localhost:" + env.getRequiredProperty("local.server.port"), seeder.postIds());
+            runner.login(expiredIssuer);
+            Map<String, Object> report = runner.run();
+            runner.writeReport(report);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            redis.stop();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // 세션으로 쓸 사용자들을 미리 로그인
+    void login(JwtUtil expiredIssuer) throws Exception {
+        int count = Math.min(options.sessions(), options.users());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(count, 16));
+        try {
+            List<Future<Session>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String username = LoadTestSeeder.username(i);
+                futures.add(executor.submit(() -> {
+                    HttpResponse<Void> response = send(loginRequest(username));
+                    Map<String, String> cookies = new ConcurrentHashMap<>();
+                    updateCookies(cookies, response);
+                    if (!cookies.containsKey("access_token")) {
+                        throw new IllegalStateException("로그인 실패: " + username + " (" + response.statusCode() + ")");
+                    }
+                    return new Session(username, cookies,
+                            expiredIssuer.generateToken(username, "ROLE_USER", false));
+                }));
+            }
+            for (Future<Session> future : futures) {
+                sessions.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    Map<String, Object> run() throws InterruptedException {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(options.threads(), options.threads(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        List<Scenario> mix = new ArrayList<>();
+        for (Scenario scenario : Scenario.values()) {
+            for (int i = 0; i < scenario.weight; i++) {
+                mix.add(scenario);
+            }
+        }
+
+        double intervalNanos = 1_000_000_000.0 / options.rate();
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        System.out.printf("부하 테스트 시작: %d req/s, 워밍업 %ds + 측정 %ds%n",
+                options.rate(), options.warmupSeconds(), options.durationSeconds());
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Scenario scenario = mix.get(ThreadLocalRandom.current().nextInt(mix.size()));
+            boolean measured = intended >= measureStart;
+            workers.execute(() -> execute(scenario, intended, measured));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(2, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        recorders.forEach((scenario, recorder) ->
+                endpoints.put(scenario.endpoint, recorder.summary(options.durationSeconds())));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("options", Map.of(
+                "users", options.users(),
+                "posts", options.posts(),
+                "sessions", sessions.size(),
+                "targetRatePerSecond", options.rate(),
+                "durationSeconds", options.durationSeconds(),
+                "warmupSeconds", options.warmupSeconds(),
+                "threads", options.threads()));
+        report.put("total", total.summary(options.durationSeconds()));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private void execute(Scenario scenario, long intended, boolean measured) {
+        Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        String status;
+        boolean error;
+        try {
+            HttpResponse<Void> response = send(request(scenario, session));
+            status = String.valueOf(response.statusCode());
+            error = !succeeded(scenario, response);
+            if (scenario != Scenario.LOGIN) {
+                updateCookies(session.cookies(), response);
+            }
+        } catch (Exception e) {
+            status = e.getClass().getSimpleName();
+            error = true;
+        }
+        long latency = System.nanoTime() - intended;
+        if (measured) {
+            recorders.get(scenario).record(latency, status, error);
+            total.record(latency, status, error);
+        }
+    }
+
+    private HttpRequest request(Scenario scenario, Session session) {
+        return switch (scenario) {
+            case BROWSE -> get("/posts", cookieHeader(session.cookies(), null));
+            case OPEN_POST -> get("/posts/" + postIds.get(ThreadLocalRandom.current().nextInt(postIds.size())),
+                    cookieHeader(session.cookies(), null));
+            case CREATE_POST -> HttpRequest.newBuilder(URI.create(baseUrl + "/posts/new"))
+                    .header("Cookie", cookieHeader(session.cookies(), null))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form(Map.of(
+                            "title", "부하 테스트 새 글",
+                            "content", "부하 테스트 중 작성된 게시물입니다."))))
+                    .build();
+            case LOGIN -> loginRequest(LoadTestSeeder.username(ThreadLocalRandom.current().nextInt(options.users())));
+            // access 토큰만 만료된 것으로 바꿔서 보냄 -> RefreshJwtFilter가 refresh 토큰으로 재발급해야 함
+            case REFRESH -> get("/posts", cookieHeader(session.cookies(), session.expiredAccessToken()));
+        };
+    }
+
+    private static boolean succeeded(Scenario scenario, HttpResponse<Void> response) {
+        int status = response.statusCode();
+        String location = response.headers().firstValue("Location").orElse("");
+        return switch (scenario) {
+            case BROWSE, OPEN_POST -> status == 200;
+            case CREATE_POST -> status == 302 && location.endsWith("/posts");
+            case LOGIN -> status == 302 && hasCookie(response, "access_token");
+            case REFRESH -> status == 200 && hasCookie(response, "access_token");
+        };
+    }
+
+    private HttpRequest loginRequest(String username) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form(Map.of(
+                        "username", username,
+                        "password", LoadTestSeeder.PASSWORD))))
+                .build();
+    }
+
+    private HttpRequest get(String path, String cookie) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (!cookie.isEmpty()) {
+            builder.header("Cookie", cookie);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static String form(Map<String, String> params) {
+        return params.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String cookieHeader(Map<String, String> cookies, String accessTokenOverride) {
+        return cookies.entrySet().stream()
+                .map(e -> e.getKey() + "=" + (accessTokenOverride != null && e.getKey().equals("access_token")
+                        ? accessTokenOverride : e.getValue()))
+                .collect(Collectors.joining("; "));
+    }
+
+    // Set-Cookie -> 쿠키 맵 갱신 (Max-Age=0이면 삭제)
+    private static void updateCookies(Map<String, String> cookies, HttpResponse<?> response) {
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            String pair = header.split(";", 2)[0];
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            String name = pair.substring(0, eq).trim();
+            if (header.contains("Max-Age=0")) {
+                cookies.remove(name);
+            } else {
+                cookies.put(name, pair.substring(eq + 1).trim());
+            }
+        }
+    }
+
+    private static boolean hasCookie(HttpResponse<?> response, String name) {
+        return response.headers().allValues("Set-Cookie").stream()
+                .anyMatch(header -> header.startsWith(name + "=") && !header.contains("Max-Age=0"));
+    }
+
+    void writeReport(Map<String, Object> report) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path path = options.report().toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        objectMapper.writeValue(path.toFile(), report);
+
+        System.out.printf("%n%-28s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+        endpoints.forEach((endpoint, s) -> System.out.printf("%-28s %9s %7s %9s %9s %9s %9s%n",
+                endpoint, s.get("requests"), s.get("errors"), s.get("throughputPerSecond"),
+                s.get("p50Millis"), s.get("p99Millis"), s.get("p999Millis")));
+        System.out.println("결과: " + path);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.my_board.loadtest;
+
+import com.example.my_board.model.entity.Post;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 데이터 생성 (JdbcTemplate 배치 INSERT)
+ * - 사용자 N명: 비밀번호는 모두 같으므로 BCrypt 해시는 한 번만 계산해서 공유
+ * - 게시물 M건: 작성자는 무작위, 작성 시각은 최근 1년 안에서 순서대로
+ */
+class LoadTestSeeder {
+    static final String USERNAME_PREFIX = "loaduser";
+    static final String PASSWORD = "loadtest-password";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    static String username(int index) {
+        return USERNAME_PREFIX + index;
+    }
+
+    void seedUsers(int users) {
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < users; i++) {
+            batch.add(new Object[]{username(i), hash, "ROLE_USER"});
+            if (batch.size() == BATCH_SIZE || i == users - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO user_account (username, password, role, enabled) VALUES (?, ?, ?, TRUE)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    void seedPosts(int posts) {
+        List<Long> authorIds = jdbcTemplate.queryForList(
+                "SELECT id FROM user_account WHERE username LIKE ?", Long.class, USERNAME_PREFIX + "%");
+        if (authorIds.isEmpty()) {
+            throw new IllegalStateException("게시물 작성자로 쓸 사용자가 없습니다");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime start = LocalDateTime.now().minusYears(1);
+        long stepSeconds = Math.max(1, 365L * 24 * 60 * 60 / Math.max(1, posts));
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < posts; i++) {
+            String content = "부하 테스트 게시물 " + i + " 본문입니다. ".repeat(1 + random.nextInt(20));
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i * stepSeconds));
+            batch.add(new Object[]{
+                    "부하 테스트 게시물 " + i, content, Post.excerptOf(content),
+                    authorIds.get(random.nextInt(authorIds.size())), createdAt, createdAt});
+            if (batch.size() == BATCH_SIZE || i == posts - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO post (title, content, excerpt, view_count, comment_count, user_account_id, created_at, updated_at)
+                        VALUES (?, ?, ?, 0, 0, ?, ?, ?)
+                        """, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    List<Long> postIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM post", Long.class);
+    }
+}
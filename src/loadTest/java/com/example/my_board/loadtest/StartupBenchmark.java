@@ -0,0 +1,107 @@
+package com.example.my_board.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시간 비교 (./gradlew startupBenchmark)
+ * build/cds에 풀어놓은 jar를 모드별로 여러 번 실행해서, 프로세스 시작부터
+ * 컨텍스트 초기화가 끝나고 종료될 때까지(spring.context.exit=onRefresh) 걸린 시간을 잼
+ * - JVM: 기본 실행
+ * - AOT: -Dspring.aot.enabled=true (빌드 시 생성한 빈 정의 사용, 리플렉션/조건 평가 생략)
+ * - AOT_CDS: AOT + -XX:SharedArchiveFile (클래스 로딩/검증 결과 재사용)
+ *
+ * 설정 (-Pstartup.xxx=값): runs, args(앱 인자, 공백 구분), report
+ */
+public class StartupBenchmark {
+
+    enum Mode {
+        JVM(List.of()),
+        AOT(List.of("-Dspring.aot.enabled=true")),
+        AOT_CDS(List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=application.jsa"));
+
+        final List<String> jvmArgs;
+
+        Mode(List<String> jvmArgs) {
+            this.jvmArgs = jvmArgs;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Path.of(System.getProperty("startup.dir", "build/cds"));
+        String jar = System.getProperty("startup.jar");
+        String java = System.getProperty("startup.java", "java");
+        int runs = Integer.getInteger("startup.runs", 5);
+        List<String> appArgs = Arrays.stream(System.getProperty("startup.args", "").trim().split("\\s+"))
+                .filter(arg -> !arg.isEmpty())
+                .toList();
+        Path report = Path.of(System.getProperty("startup.report", "build/reports/startup/report.json"));
+        if (jar == null || !Files.exists(dir.resolve(jar))) {
+            throw new IllegalStateException("추출된 jar가 없습니다: " + dir.resolve(String.valueOf(jar)) + " (./gradlew cdsArchive)");
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        Map<Mode, Long> medians = new EnumMap<>(Mode.class);
+        // 첫 실행은 OS 파일 캐시 등으로 느리므로 버림
+        run(java, dir, jar, Mode.JVM, appArgs);
+        for (Mode mode : Mode.values()) {
+            List<Long> millis = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                millis.add(run(java, dir, jar, mode, appArgs));
+            }
+            Collections.sort(millis);
+            long median = millis.get(millis.size() / 2);
+            medians.put(mode, median);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("runs", millis.size());
+            summary.put("minMillis", millis.get(0));
+            summary.put("medianMillis", median);
+            summary.put("maxMillis", millis.get(millis.size() - 1));
+            results.put(mode.name(), summary);
+            System.out.printf("%-8s min %5d ms  median %5d ms  max %5d ms%n",
+                    mode, millis.get(0), median, millis.get(millis.size() - 1));
+        }
+        for (Mode mode : List.of(Mode.AOT, Mode.AOT_CDS)) {
+            double speedup = (double) medians.get(Mode.JVM) / medians.get(mode);
+            results.put(mode.name() + "_speedup", Math.round(speedup * 100) / 100.0);
+            System.out.printf("%-8s %.2fx faster than JVM%n", mode, speedup);
+        }
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), results);
+        System.out.println("report: " + report.toAbsolutePath());
+    }
+
+    // 한 번 실행 -> 경과 시간(ms)
+    private static long run(String java, Path dir, String jar, Mode mode, List<String> appArgs)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(mode.jvmArgs);
+        command.add("-Dspring.context.exit=onRefresh");
+        command.add("-jar");
+        command.add(jar);
+        command.addAll(appArgs);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (!process.waitFor(5, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IllegalStateException(mode + " 실행이 끝나지 않음");
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException(mode + " 실행 실패 (exit " + process.exitValue() + "): " + String.join(" ", command));
+        }
+        return elapsed;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.my_board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 계정 준비 (시작 시 1회)
+ * - 먼저 존재 여부만 조회 -> 이미 있으면 끝 (보통의 재시작은 BCrypt 계산 없이 SELECT 한 번)
+ * - 없을 때만 INSERT 하는 SQL 한 번 (이미 있으면 그대로 둠 -> 비밀번호를 매번 초기화하지 않음)
+ * - 여러 노드가 동시에 떠도 username unique 제약 때문에 한 노드만 성공, 나머지는 중복 키 -> 무시
+ * - admin.password가 "{bcrypt}..."처럼 이미 인코딩된 값이면 그대로 저장 (시작할 때 BCrypt 계산 X)
+ */
+@Slf4j
+@Component
+public class AdminBootstrap implements ApplicationRunner {
+    // MySQL은 FROM 없는 SELECT에 WHERE를 붙일 수 없으므로 DUAL 사용
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO user_account (username, password, role, enabled)
+            SELECT ?, ?, 'ROLE_ADMIN', TRUE FROM DUAL
+            WHERE NOT EXISTS (SELECT 1 FROM user_account WHERE username = ?)
+            """;
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM user_account WHERE username = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final String username;
+    private final String password;
+
+    public AdminBootstrap(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            @Value("${admin.username:admin}") String username,
+            @Value("${admin.password:pass}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, username);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        try {
+            int inserted = jdbcTemplate.update(INSERT_IF_ABSENT_SQL, username, encodedPassword(), username);
+            if (inserted > 0) {
+                log.info("관리자 계정 생성: {}", username);
+            }
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 생성함
+        }
+    }
+
+    private String encodedPassword() {
+        return password.startsWith("{") ? password : passwordEncoder.encode(password);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.my_board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA 설정 클래스
+ * BaseEntity의 @CreatedDate, @LastModifiedDate가 채워지도록 Auditing 활성화
+ * (커서 페이징이 created_at 기준으로 정렬하므로 반드시 값이 있어야 함)
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaConfig {
+}
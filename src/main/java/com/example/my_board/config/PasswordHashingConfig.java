@@ -0,0 +1,48 @@
+package com.example.my_board.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀
+ * BCrypt는 한 번에 ~100ms CPU를 쓰므로, 로그인/회원가입이 몰리면 Tomcat 요청 스레드를 전부 차지해서
+ * 일반 페이지 조회까지 멈춤 -> 해시 작업은 이 풀에서만 실행하고, 대기열이 차면 바로 거절(503)
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    /**
+     * @param threads       동시에 해시를 계산할 스레드 수 (기본: CPU 코어 수)
+     * @param queueCapacity 대기열 크기 (넘치면 RejectedExecutionException -> 503)
+     * @param meterRegistry 대기열 길이/활성 스레드/처리 시간 지표 (executor{name=password-hashing})
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue-capacity:100}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.my_board.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 수 제한 설정 (application.yml의 rate-limit.*)
+ * policies는 위에서부터 처음 일치하는 하나만 적용 (구체적인 경로를 위에)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // LOCAL: 노드마다 따로 셈, REDIS: 모든 노드가 같이 셈 (Redis 장애 시 LOCAL로 동작)
+    private Mode mode = Mode.LOCAL;
+    // LOCAL 모드에서 기억할 최대 키(사용자/IP) 수, 이 시간 동안 요청이 없던 키는 제거
+    private long maxKeys = 100_000;
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private List<Policy> policies = new ArrayList<>();
+
+    public enum Mode {
+        LOCAL, REDIS
+    }
+
+    // 누구 기준으로 셀지: USER(로그인 사용자, 아니면 IP) / IP
+    public enum Key {
+        USER, IP
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name;
+        private String method;  // 없으면 모든 메서드
+        private String path;    // PathPattern (예: /posts/**)
+        private Key key = Key.USER;
+        private int limit;      // period 동안 허용할 요청 수 (= 한 번에 몰아서 보낼 수 있는 최대 수)
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.my_board.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 설정 클래스
+ * 여러 노드 사이의 캐시 무효화 등을 위한 Pub/Sub 리스너 컨테이너 등록
+ * (채널 구독은 각 서비스에서 container.addMessageListener(...)로 직접 등록)
+ */
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
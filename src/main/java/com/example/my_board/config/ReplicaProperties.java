@@ -0,0 +1,31 @@
+package com.example.my_board.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 설정 (application.yml의 datasource.*)
+ * replicas가 비어 있으면 모든 쿼리가 primary(spring.datasource)로 감
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource")
+public class ReplicaProperties {
+    private List<Replica> replicas = new ArrayList<>();
+    // 사용자가 쓰기를 한 뒤 이 시간 동안은 그 사용자의 읽기도 primary로 (복제 지연 동안 자기 글이 안 보이는 문제 방지)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.my_board.config;
+
+import com.example.my_board.util.CookieUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica로 나눠 보내는 DataSource
+ * - @Transactional(readOnly = true) -> 정상인 replica를 돌아가며 사용 (round-robin), 모두 비정상이면 primary
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖) -> primary
+ * - read-your-writes: 쓰기를 한 사용자는 잠시 동안 읽기도 primary로
+ *   같은 요청 안에서는 요청 속성으로, 다음 요청부터는 쿠키(db_primary_until=만료 시각)로 판단
+ *   -> 노드 간 공유 상태 없이 어느 노드로 가도 적용됨 (값이 조작돼도 primary로 읽을 뿐)
+ * - 공유 캐시 채우기: usePrimary(...) 안의 읽기는 항상 primary
+ *   (무효화 직후 쿠키 없는 사용자가 지연된 replica에서 옛 값을 읽어 캐시에 다시 넣는 것을 막음)
+ *
+ * readOnly 여부는 트랜잭션이 시작된 뒤에야 알 수 있으므로
+ * LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 시점에 연결을 고르게 해야 함 (DataSourceConfig)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String READ_YOUR_WRITES_COOKIE = "db_primary_until";
+    private static final String WROTE_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".WROTE";
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 1;
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final List<DataSource> replicas;
+    private final Duration readYourWritesWindow;
+    private final AtomicInteger next = new AtomicInteger();
+    // replica별 상태 (1: 정상, 0: 연결 실패) - 처음에는 정상으로 보고 health check에서 갱신
+    private final AtomicIntegerArray healthy;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            healthy.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                markWrite();
+            }
+            return PRIMARY;
+        }
+        if (FORCE_PRIMARY.get() != null || recentlyWrote()) {
+            return PRIMARY;
+        }
+        Integer replica = nextHealthyReplica();
+        return replica != null ? replica : PRIMARY;
+    }
+
+    // 안에서 시작하는 readOnly 트랜잭션도 primary에서 읽음 (이미 연결을 잡은 바깥 트랜잭션에는 영향 없음)
+    public static <T> T usePrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            }
+        }
+    }
+
+    private Integer nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (healthy.get(index) == 1) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    // 각 replica에 연결해서 확인
+    @Scheduled(fixedDelayString = "${datasource.health-check-interval:5000}")
+    public void checkReplicas() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean ok;
+            try (Connection connection = replicas.get(i).getConnection()) {
+                ok = connection.isValid(HEALTH_CHECK_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                ok = false;
+            }
+            int previous = healthy.getAndSet(i, ok ? 1 : 0);
+            if (previous == 1 && !ok) {
+                log.warn("replica #{} 연결 실패 -> 읽기에서 제외", i);
+            } else if (previous == 0 && ok) {
+                log.info("replica #{} 복구 -> 읽기에 다시 사용", i);
+            }
+        }
+    }
+
+    public boolean isHealthy(int replica) {
+        return healthy.get(replica) == 1;
+    }
+
+    // 애플리케이션 종료 시 replica 연결 풀 정리 (primary는 별도 빈)
+    public void close() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("replica 연결 풀 종료 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void markWrite() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null || attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            long until = System.currentTimeMillis() + readYourWritesWindow.toMillis();
+            CookieUtil.createCookie(response, READ_YOUR_WRITES_COOKIE, String.valueOf(until),
+                    (int) Math.max(1, readYourWritesWindow.toSeconds()));
+        }
+    }
+
+    private boolean recentlyWrote() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return false;
+        }
+        if (attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String until = CookieUtil.findCookie(request, READ_YOUR_WRITES_COOKIE);
+        if (until == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(until) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes : null;
+    }
+}
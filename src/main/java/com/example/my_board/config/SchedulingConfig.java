@@ -0,0 +1,13 @@
+package com.example.my_board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * (검색 색인 따라잡기 등 주기적인 백그라운드 작업)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,24 +1,39 @@
 package com.example.my_board.config;
 
 import com.example.my_board.filter.JwtFilter;
+import com.example.my_board.filter.RateLimitFilter;
 import com.example.my_board.filter.RefreshJwtFilter;
-import com.example.my_board.model.repository.RefreshTokenRepository;
 import com.example.my_board.service.CustomUserDetailsService;
+import com.example.my_board.service.LocalUserCache;
+import com.example.my_board.service.RateLimitService;
+import com.example.my_board.service.TokenRefreshService;
+import com.example.my_board.service.TokenRevocationService;
 import com.example.my_board.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.CachingUserDetailsService;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Spring Security 설정 클래스
  * JWT 기반 인증 시스템을 구성하며, 세션을 사용하지 않는 Stateless 방식으로 동작
@@ -26,6 +41,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration  // Spring의 설정 클래스임을 나타냄
 @EnableWebSecurity  // Spring Security 웹 보안 활성화
 @RequiredArgsConstructor  // final 필드에 대한 생성자 자동 생성 (Lombok)
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     // JWT 토큰 관련 유틸리티 클래스 (토큰 생성, 검증, 파싱 등)
@@ -34,16 +50,33 @@ public class SecurityConfig {
     // 사용자 정보를 로드하는 커스텀 서비스 (인증 시 사용자 상세정보 제공)
     private final CustomUserDetailsService userDetailsService;
 
+    // JWT 필터에서 사용하는 사용자 캐시 (짧은 TTL, 개수 제한)
+    private final LocalUserCache localUserCache;
+
+    // Access Token 재발급 (refresh 토큰 교체, 동시 재발급 합치기)
+    private final TokenRefreshService tokenRefreshService;
+
+    // 로그아웃/강제 탈퇴로 폐기된 토큰 확인
+    private final TokenRevocationService tokenRevocationService;
+
+    // 요청 수 제한 (경로별 정책)
+    private final RateLimitService rateLimitService;
+    private final RateLimitProperties rateLimitProperties;
+
     /**
      * 보안 필터 체인 설정
      * HTTP 요청에 대한 보안 규칙을 정의하고 JWT 필터를 추가
      *
      * @param http HttpSecurity 객체 - Spring Security의 HTTP 보안 설정을 위한 빌더
+     * @param claimsOnly true면 JWT 클레임만으로 인증 (요청마다 사용자 DB 조회 X)
+     * @param meterRegistry 필터 처리 시간 기록용
      * @return SecurityFilterChain - 구성된 보안 필터 체인
      * @throws Exception 설정 과정에서 발생할 수 있는 예외
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${jwt.claims-only:false}") boolean claimsOnly,
+                                           MeterRegistry meterRegistry) throws Exception {
 
         // === 기본 보안 설정 비활성화 ===
         http.csrf(AbstractHttpConfigurer::disable)  // CSRF 보호 비활성화 (REST API에서는 불필요)
@@ -54,8 +87,13 @@ public class SecurityConfig {
 
         // === URL별 접근 권한 설정 ===
         http.authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(로그인 등 CompletableFuture 반환) 재전달, 에러 페이지 전달은 원래 요청에서 이미 검사됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // 홈페이지("/")와 인증 관련 경로("/auth/**")는 모든 사용자 접근 허용
                         .requestMatchers("/", "/auth/**").permitAll()
+                        // 상태 확인은 누구나, 지표(/actuator/prometheus 등)는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // auth/** -> 패턴 등록 -> auth/register 별도로 했다면, auth/logout
 
                         // "/my-page" 경로는 인증된 사용자만 접근 가능
@@ -75,30 +113,47 @@ public class SecurityConfig {
                                 res.sendRedirect("/auth/login")));
 
         // === JWT 필터 추가 ===
+        // 필터에서의 사용자 조회는 캐시를 먼저 보고, 없을 때만 DB 조회
+        // (로그인용 AuthenticationManager는 캐시 없이 CustomUserDetailsService를 그대로 사용)
+        CachingUserDetailsService cachedUserDetailsService = new CachingUserDetailsService(userDetailsService);
+        cachedUserDetailsService.setUserCache(localUserCache);
+
         // JwtFilter를 UsernamePasswordAuthenticationFilter 앞에 추가
         // 모든 HTTP 요청이 JWT 필터를 먼저 거치도록 설정
         http
-                .addFilterBefore(new JwtFilter(jwtUtil, userDetailsService),
+                .addFilterBefore(new JwtFilter(jwtUtil, cachedUserDetailsService, claimsOnly, tokenRevocationService, meterRegistry),
                         UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new RefreshJwtFilter(jwtUtil, userDetailsService, refreshTokenRepository), JwtFilter.class);
+                .addFilterBefore(new RefreshJwtFilter(jwtUtil, cachedUserDetailsService, tokenRefreshService, meterRegistry), JwtFilter.class);
+
+        // 요청 수 제한은 JwtFilter 다음 (인증된 사용자는 사용자 기준, 아니면 IP 기준으로 셈)
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitService, rateLimitProperties, meterRegistry), JwtFilter.class);
+        }
 
         // 설정이 완료된 SecurityFilterChain 반환
         return http.build();
     }
 
-    private final RefreshTokenRepository refreshTokenRepository;
-
     /**
      * 비밀번호 인코더 빈 등록
      * Spring Security에서 비밀번호 암호화에 사용
      *
+     * @param bcryptStrength BCrypt cost (log2 반복 횟수, 1 올릴 때마다 해시 시간 2배)
+     * @param meterRegistry 해시/검증 시간 기록용
      * @return PasswordEncoder - 위임형 패스워드 인코더 (기본적으로 BCrypt 사용)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int bcryptStrength,
+                                           MeterRegistry meterRegistry) {
         // DelegatingPasswordEncoder 생성 - 여러 인코딩 방식을 지원하며 기본으로 BCrypt 사용
         // {bcrypt}, {noop}, {pbkdf2} 등 다양한 인코딩 방식을 자동으로 감지하고 처리
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        // cost를 바꾸면 upgradeEncoding()이 true가 되어, 로그인 성공 시 새 cost로 다시 해시해서 저장됨
+        // (CustomUserDetailsService.updatePassword)
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("noop", NoOpPasswordEncoder.getInstance());
+        return new TimedPasswordEncoder(new DelegatingPasswordEncoder("bcrypt", encoders), meterRegistry);
     }
 
     /**
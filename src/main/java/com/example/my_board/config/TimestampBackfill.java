@@ -0,0 +1,121 @@
+package com.example.my_board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * created_at / updated_at이 NULL인 예전 행 채우기 (시작 시 1회)
+ * Auditing(JpaConfig)을 켜기 전에 작성된 행은 두 컬럼이 NULL
+ * -> 커서 페이징 (created_at, id) 탐색, 커서 조회, 보관 이동 (created_at < ?)에서 빠지거나 순서가 어긋남
+ * - created_at: 값이 있는 행 중 가장 오래된 작성일 (Auditing 전 행은 그보다 먼저 작성됨, 같은 값끼리는 id 순서 유지)
+ *   값이 있는 행이 없으면 현재 시각
+ * - updated_at: created_at과 같은 값
+ * - id 구간(batch-size)마다 UPDATE 한 번 -> 한 트랜잭션이 오래 잠그지 않음
+ * - 다 채운 뒤 컬럼을 NOT NULL로 변경 (ddl-auto=update는 기존 컬럼의 NULL 허용 여부를 바꾸지 않음)
+ * - 이미 NOT NULL인 컬럼은 건너뜀 -> 보통의 재시작은 information_schema 조회만
+ * - 여러 노드가 동시에 실행해도 같은 값으로 채우므로 결과는 같음
+ */
+@Slf4j
+@Component
+@Order(0)
+public class TimestampBackfill implements ApplicationRunner {
+    private static final List<String> TABLES = List.of("post", "post_archive", "comment");
+    private static final String NULLABLE_SQL = """
+            SELECT LOWER(column_name) AS name, is_nullable FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND LOWER(table_name) = ?
+              AND LOWER(column_name) IN ('created_at', 'updated_at')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public TimestampBackfill(
+            JdbcTemplate jdbcTemplate,
+            @Value("${post.backfill.enabled:true}") boolean enabled,
+            @Value("${post.backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        for (String table : TABLES) {
+            try {
+                backfill(table);
+            } catch (DataAccessException e) {
+                // 다음 시작 때 이어서 (이미 채운 구간은 다시 건드리지 않음)
+                log.warn("{} 작성일 채우기 실패: {}", table, e.getMessage());
+            }
+        }
+    }
+
+    private void backfill(String table) {
+        boolean createdNullable = false;
+        boolean updatedNullable = false;
+        for (Map<String, Object> column : jdbcTemplate.queryForList(NULLABLE_SQL, table)) {
+            boolean nullable = "YES".equalsIgnoreCase(String.valueOf(column.get("is_nullable")));
+            if ("created_at".equals(column.get("name"))) {
+                createdNullable = nullable;
+            } else {
+                updatedNullable = nullable;
+            }
+        }
+        if (!createdNullable && !updatedNullable) {
+            return;
+        }
+
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM " + table, Timestamp.class);
+        Timestamp fill = oldest != null ? oldest : Timestamp.valueOf(LocalDateTime.now());
+        long created = fillByIdRange(table, "created_at IS NULL",
+                "created_at = ?, updated_at = COALESCE(updated_at, ?)", fill, fill);
+        long updated = fillByIdRange(table, "updated_at IS NULL", "updated_at = created_at");
+        if (created > 0 || updated > 0) {
+            log.info("{} 작성일 채움: created_at {}건, updated_at {}건", table, created, updated);
+        }
+
+        if (createdNullable) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY created_at DATETIME(6) NOT NULL");
+        }
+        if (updatedNullable) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY updated_at DATETIME(6) NOT NULL");
+        }
+    }
+
+    // NULL인 행의 id 범위를 batch-size 구간으로 나눠 UPDATE (구간마다 자동 커밋)
+    private long fillByIdRange(String table, String condition, String assignments, Object... values) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS lo, MAX(id) AS hi FROM " + table + " WHERE " + condition);
+        if (range.get("lo") == null) {
+            return 0;
+        }
+        long lo = ((Number) range.get("lo")).longValue();
+        long hi = ((Number) range.get("hi")).longValue();
+        String sql = "UPDATE " + table + " SET " + assignments + " WHERE " + condition + " AND id BETWEEN ? AND ?";
+        long total = 0;
+        for (long from = lo; from <= hi; from += batchSize) {
+            Object[] args = new Object[values.length + 2];
+            System.arraycopy(values, 0, args, 0, values.length);
+            args[values.length] = from;
+            args[values.length + 1] = Math.min(from + batchSize - 1, hi);
+            total += jdbcTemplate.update(sql, args);
+        }
+        return total;
+    }
+}
@@ -1,13 +1,29 @@
 package com.example.my_board.controller;
 
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.dto.UserAccountDTO;
+import com.example.my_board.service.PostCacheService;
+import com.example.my_board.service.PostExcerptBackfillService;
+import com.example.my_board.service.PostImportService;
+import com.example.my_board.service.PostSearchService;
 import com.example.my_board.service.UserAccountService;
+import com.example.my_board.service.UserPurgeService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
@@ -15,18 +31,107 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class AdminController {
     // 사용자 계정 관련 비즈니스 로직을 처리하는 서비스
     private final UserAccountService userAccountService;
+    // 게시물 검색 색인 관리
+    private final PostSearchService postSearchService;
+    // 게시물 상세 캐시 적중률 확인
+    private final PostCacheService postCacheService;
+    // 게시물 대량 등록
+    private final PostImportService postImportService;
+    // 탈퇴 회원 정리 진행 상황
+    private final UserPurgeService userPurgeService;
+    // 예전 게시물 요약문 채우기
+    private final PostExcerptBackfillService postExcerptBackfillService;
 
-    // 회원 목록 페이지
+    // 회원 목록 페이지 (q: username 접두어 검색)
     @GetMapping
-    public String adminPage(Model model) {
-        model.addAttribute("users", userAccountService.findAllUsers());
+    public String adminPage(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + UserAccountService.DEFAULT_PAGE_SIZE) int size,
+            Model model) {
+        model.addAttribute("users", userAccountService.findUsers(q, page, size));
+        model.addAttribute("q", q);
+        model.addAttribute("searchIndexSize", postSearchService.size());
+        model.addAttribute("searchIndexReady", postSearchService.isReady());
+        model.addAttribute("searchIndexRebuilding", postSearchService.isRebuilding());
+        model.addAttribute("postCacheStats", postCacheService.stats());
+        model.addAttribute("importProgress", postImportService.getProgress());
+        model.addAttribute("purgeProgress", userPurgeService.getProgress());
+        model.addAttribute("excerptBackfillRunning", postExcerptBackfillService.isRunning());
         return "admin"; // templates/admin.html
     }
 
-    // 회원 강제 탈퇴
+    // 회원 목록 CSV 내보내기 (응답으로 바로 흘려보냄 -> 회원 수와 상관없이 메모리 일정)
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "") String q) {
+        StreamingResponseBody body = out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            userAccountService.exportUsers(q, writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    // 회원 강제 탈퇴 (바로 로그인 차단, 게시물 삭제는 백그라운드 -> 관리자 페이지에서 진행 상황 확인)
     @PostMapping("/delete/{id}")
     public String deleteUser(@PathVariable Long id) {
         userAccountService.deleteUser(id);
         return "redirect:/admin";
     }
+
+    // 검색 색인 전체 재구성 (DB 기준으로 다시 만듦, 백그라운드 - 이미 진행 중이면 무시)
+    @PostMapping("/search/rebuild")
+    public String rebuildSearchIndex() {
+        postSearchService.rebuildAsync();
+        return "redirect:/admin";
+    }
+
+    // 검색 색인 스냅샷 저장 (재시작 시 전체 스캔 대신 사용)
+    @PostMapping("/search/snapshot")
+    public String snapshotSearchIndex() {
+        postSearchService.saveSnapshot();
+        return "redirect:/admin";
+    }
+
+    // 요약문이 비어 있는 게시물 채우기 (백그라운드 - 이미 진행 중이면 무시)
+    @PostMapping("/posts/excerpts/backfill")
+    public String backfillExcerpts() {
+        postExcerptBackfillService.backfillAsync();
+        return "redirect:/admin";
+    }
+
+    // 게시물 대량 등록 (요청 본문을 스트리밍으로 읽음)
+    // curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @posts.ndjson .../admin/posts/import
+    // curl -X POST -H 'Content-Type: text/csv' --data-binary @posts.csv .../admin/posts/import
+    @PostMapping(value = "/posts/import", consumes = {"application/x-ndjson", "text/csv"})
+    @ResponseBody
+    public ResponseEntity<PostDTO.ImportProgress> importPosts(HttpServletRequest request) throws IOException {
+        try {
+            boolean csv = request.getContentType().startsWith("text/csv");
+            PostDTO.ImportProgress result = csv
+                    ? postImportService.importCsv(request.getInputStream())
+                    : postImportService.importNdjson(request.getInputStream());
+            return ResponseEntity.ok(result);
+        } catch (IllegalStateException e) {
+            // 이미 다른 등록이 진행 중
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(postImportService.getProgress());
+        }
+    }
+
+    // 탈퇴 회원 정리 진행 상황
+    @GetMapping("/users/purge/status")
+    @ResponseBody
+    public List<UserAccountDTO.PurgeProgress> purgeStatus() {
+        return userPurgeService.getProgress();
+    }
+
+    // 대량 등록 진행 상황 (행 수, rows/s)
+    @GetMapping("/posts/import/status")
+    @ResponseBody
+    public PostDTO.ImportProgress importStatus() {
+        return postImportService.getProgress();
+    }
 }
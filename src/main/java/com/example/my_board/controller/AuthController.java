@@ -1,10 +1,16 @@
 package com.example.my_board.controller;
 
+import com.example.my_board.service.TokenRefreshService;
+import com.example.my_board.service.TokenRevocationService;
 import com.example.my_board.service.UserAccountService;
+import com.example.my_board.util.CookieUtil;
 import com.example.my_board.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,13 +20,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
 @Controller // view -> template -> html(thymeleaf)
 @RequiredArgsConstructor // 생성자 주입
 @RequestMapping("/auth") // prefix -> /auth/**
 public class AuthController {
     private final UserAccountService userAccountService;
+    // BCrypt 해시/검증 전용 스레드풀 (PasswordHashingConfig) -> 요청 스레드는 바로 반환
+    private final ThreadPoolExecutor passwordHashingExecutor;
 
     // 회원가입용 페이지로 전달하는...
     @GetMapping("/register") // join? new? // GET
@@ -30,9 +44,14 @@ public class AuthController {
 
     // 해당 처리를 Service로 전달해주는...
     @PostMapping("/register") // POST
-    public String register(@RequestParam String username,
-                           @RequestParam String password,
-                           RedirectAttributes redirectAttributes) {
+    public CompletableFuture<String> register(@RequestParam String username,
+                                              @RequestParam String password,
+                                              HttpServletResponse response,
+                                              RedirectAttributes redirectAttributes) {
+        return hashAsync(response, () -> doRegister(username, password, redirectAttributes));
+    }
+
+    private String doRegister(String username, String password, RedirectAttributes redirectAttributes) {
         // @Valid -> 유효성 검증
         try {
             userAccountService.register(username, password);
@@ -54,12 +73,19 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final TokenRefreshService tokenRefreshService;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/login")
-    public String login(@RequestParam String username,
-                        @RequestParam String password,
-                        HttpServletResponse response,
-                        RedirectAttributes redirectAttributes) {
+    public CompletableFuture<String> login(@RequestParam String username,
+                                           @RequestParam String password,
+                                           HttpServletResponse response,
+                                           RedirectAttributes redirectAttributes) {
+        return hashAsync(response, () -> doLogin(username, password, response, redirectAttributes));
+    }
+
+    private String doLogin(String username, String password,
+                           HttpServletResponse response, RedirectAttributes redirectAttributes) {
         try {
             // 인증 시도
             Authentication authentication = authenticationManager
@@ -68,21 +94,25 @@ public class AuthController {
                     ));
 
             // JWT 발급 -> 쿠키 로 저장
-            String accessToken = jwtUtil.generateToken(username, authentication.getAuthorities().toString(), false);
+            // role 클레임은 "ROLE_USER" 형태 -> JwtFilter에서 DB 조회 없이 바로 권한으로 사용
+            String role = JwtUtil.toRoleClaim(authentication.getAuthorities());
+            String accessToken = jwtUtil.generateToken(username, role, false);
             ResponseCookie cookie = ResponseCookie.from("access_token", accessToken)
                     .httpOnly(true)
                     .path("/")
-                    .maxAge(3600) // s, ms(x)
+                    .maxAge(jwtUtil.getAccessExpiry() / 1000) // s, ms(x)
                     .build();
             // "Set-Cookie"
             response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
 
             // RefreshToken
-            String refreshToken = jwtUtil.generateToken(username, authentication.getAuthorities().toString(), true);
-            ResponseCookie refreshCookie = ResponseCookie.from("refresh_cookie", refreshToken)
+            String refreshToken = jwtUtil.generateToken(username, role, true);
+            // Redis에 저장해야 RefreshJwtFilter에서 재발급 가능 (쿠키 이름도 필터와 같아야 함)
+            tokenRefreshService.store(username, refreshToken);
+            ResponseCookie refreshCookie = ResponseCookie.from("refresh_token", refreshToken)
                     .httpOnly(true)
                     .path("/")
-                    .maxAge(3600 * 24) // s, ms(x)
+                    .maxAge(jwtUtil.getRefreshExpiry() / 1000) // s, ms(x)
                     .build();
             // "Set-Cookie"
             response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie.toString());
@@ -93,4 +123,29 @@ public class AuthController {
             return "redirect:/auth/login";
         }
     }
-}
\ No newline at end of file
+
+    // 로그아웃: 가지고 있던 토큰을 만료 전에 폐기 + 쿠키 삭제
+    // (쿠키만 지우면 탈취된 토큰은 만료 시각까지 계속 쓸 수 있음)
+    @PostMapping("/logout")
+    public String logout(HttpServletRequest request, HttpServletResponse response) {
+        tokenRevocationService.revoke(CookieUtil.findCookie(request, "access_token"));
+        Claims refreshClaims = tokenRevocationService.revoke(CookieUtil.findCookie(request, "refresh_token"));
+        if (refreshClaims != null) {
+            tokenRefreshService.discard(refreshClaims.getSubject());
+        }
+        CookieUtil.deleteCookie(response, "access_token");
+        CookieUtil.deleteCookie(response, "refresh_token");
+        return "redirect:/";
+    }
+
+    // 비밀번호 해시 작업을 전용 스레드풀에 넘김
+    // 대기열까지 가득 차면 (로그인 폭주) 바로 503 + Retry-After -> 요청 스레드가 BCrypt에 묶여 전체 서비스가 멈추는 것 방지
+    private CompletableFuture<String> hashAsync(HttpServletResponse response, Supplier<String> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, passwordHashingExecutor);
+        } catch (RejectedExecutionException e) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+}
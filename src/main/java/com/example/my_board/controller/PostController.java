@@ -1,33 +1,166 @@
 package com.example.my_board.controller;
 
+import com.example.my_board.model.dto.CommentDTO;
 import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.service.CommentService;
+import com.example.my_board.service.PostCacheService;
+import com.example.my_board.service.PostListCacheService;
+import com.example.my_board.service.PostSearchService;
 import com.example.my_board.service.PostService;
+import com.example.my_board.service.PostStreamService;
+import com.example.my_board.service.PostVersionService;
+import com.example.my_board.service.PostViewCountService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
 
 @Controller // 스캔
 @RequiredArgsConstructor // 의존성
 @RequestMapping("/posts")
 public class PostController {
     private final PostService postService;
+    private final PostSearchService postSearchService;
+    // 상세 조회용 2단 캐시 (로컬 -> Redis -> DB)
+    private final PostCacheService postCacheService;
+    // 목록 본문 렌더링 결과 캐시
+    private final PostListCacheService postListCacheService;
+    // 조회수 (메모리에 모았다가 주기적으로 DB 반영)
+    private final PostViewCountService postViewCountService;
+    // 게시물 전체 버전 (목록 ETag)
+    private final PostVersionService postVersionService;
+    // 새 글 알림 (SSE)
+    private final PostStreamService postStreamService;
+    // 댓글 (상세 페이지 아래 스레드)
+    private final CommentService commentService;
 
-    // 게시물 목록
+    // 게시물 목록 (커서 페이징: /posts?after=<id>&size=N, /posts?before=<id>&size=N)
     @GetMapping
-    public String list(Model model) {
-        model.addAttribute("posts", postService.findAll());
+    public String list(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest, HttpServletRequest request, HttpServletResponse response,
+            Model model) {
+        // 조건부 GET: 게시물이 하나도 바뀌지 않았으면 조회/렌더링 없이 304
+        // (조회수/댓글 수는 ETag에 넣지 않음 -> 304면 브라우저에 있던 값이 그대로 보임)
+        PostVersionService.Version version = postVersionService.current();
+        String etag = "W/\"posts-" + version.number() + "-" + after + "-" + before + "-" + size + "\"";
+        revalidateAlways(response);
+        if (webRequest.checkNotModified(etag, version.changedAt())) {
+            return null;
+        }
+        // 목록 본문은 렌더링된 HTML 캐시에서 (없을 때만 조회 + 렌더링)
+        model.addAttribute("listBody", postListCacheService.render(after, before, size, request, response));
         return "post/list"; // templates/post/list.html
     }
-    // 개별 게시물
+    // 새 글 알림 (EventSource로 구독, event: post / data: {id, title, excerpt, createdAt})
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void stream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader("X-Accel-Buffering", "no"); // 프록시(nginx)가 응답을 모았다가 보내지 않도록
+        try {
+            postStreamService.subscribe(request, response);
+        } catch (IllegalStateException e) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+    // 게시물 검색 (/posts/search?q=검색어&page=0&size=20)
+    @GetMapping("/search")
+    public String search(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size,
+            Model model) {
+        int limit = Math.min(Math.max(size, 1), PostService.MAX_PAGE_SIZE);
+        model.addAttribute("result", postSearchService.search(q, Math.max(page, 0), limit));
+        model.addAttribute("indexReady", postSearchService.isReady());
+        return "post/search"; // templates/post/search.html
+    }
+    // 개별 게시물 (+ 댓글: 최상위 댓글 commentSize개씩, /posts/{id}?commentsAfter=<최상위 댓글 id>)
     @GetMapping("/{id}")
     public String list(
             @PathVariable Long id,
-            Model model) {
-        // 각각 개별이니까... 1개.
-        model.addAttribute("post", postService.findById(id));
-        return "post/detail"; // templates/post/list.html
+            @RequestParam(required = false) Long commentsAfter,
+            @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int commentSize,
+            WebRequest webRequest, HttpServletResponse response,
+            Model model, Authentication authentication) {
+        // 조건부 GET 판단에 필요한 값만 먼저 (304면 본문 DTO를 읽지 않음)
+        PostDTO.Validator validator = postCacheService.validator(id);
+        postViewCountService.increment(id); // 304여도 조회는 조회
+        boolean isAuthor = validator.getAuthorUsername().equals(authentication.getName());
+        boolean canEdit = isAuthor && !validator.isArchived(); // 보관된 게시물은 삭제만 가능
+        boolean canDelete = isAuthor || isAdmin(authentication);
+        // 조건부 GET: 수정 시각(updatedAt) 기준, 사용자마다 다른 부분(수정/삭제 버튼)도 ETag에 포함
+        // 댓글 작성/삭제도 updatedAt을 바꾸므로 댓글이 바뀌면 새로 렌더링됨
+        long lastModified = validator.getLastModified();
+        String etag = "W/\"post-" + id + "-" + lastModified + "-" + (canEdit ? 1 : 0) + (canDelete ? 1 : 0)
+                + "-" + commentsAfter + "-" + commentSize + "\"";
+        revalidateAlways(response);
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        // 캐시에서 DTO로 조회 (작성자 이름 포함) -> 렌더링 중 DB 접근 X
+        PostDTO.Detail post = postCacheService.get(id);
+        model.addAttribute("post", post);
+        model.addAttribute("viewCount", postViewCountService.viewCount(id, post.getViewCount()));
+        model.addAttribute("canEdit", canEdit);
+        model.addAttribute("canDelete", canDelete);
+        model.addAttribute("comments", commentService.findThreads(id, commentsAfter, commentSize));
+        model.addAttribute("commentForm", new CommentDTO.Request());
+        model.addAttribute("username", authentication.getName());
+        model.addAttribute("isAdmin", isAdmin(authentication));
+        return "post/detail"; // templates/post/detail.html
+    }
+    // 게시물 수정 폼 (작성 폼 재사용)
+    @GetMapping("/{id}/edit")
+    public String editForm(@PathVariable Long id, Model model, Authentication authentication) {
+        PostDTO.Detail post = postService.findDetail(id); // 수정은 캐시가 아닌 DB 기준
+        if (post.isArchived()) {
+            throw new IllegalStateException("보관된 게시물은 수정할 수 없습니다");
+        }
+        PostDTO.Request dto = new PostDTO.Request();
+        dto.setUsername(authentication.getName());
+        dto.setTitle(post.getTitle());
+        dto.setContent(post.getContent());
+        model.addAttribute("post", dto);
+        return "post/form";
+    }
+    // 게시물 수정 처리 (작성자 확인은 Service에서)
+    @PostMapping("/{id}/edit")
+    public String edit(@PathVariable Long id, @ModelAttribute PostDTO.Request dto, Authentication authentication) {
+        postService.updatePost(id, dto, authentication.getName());
+        return "redirect:/posts/" + id;
+    }
+    // 게시물 삭제 (작성자 또는 관리자)
+    @PostMapping("/{id}/delete")
+    public String delete(@PathVariable Long id, Authentication authentication) {
+        postService.deletePost(id, authentication.getName(), isAdmin(authentication));
+        return "redirect:/posts";
+    }
+    // 댓글 작성 (parentId가 있으면 답글)
+    @PostMapping("/{id}/comments")
+    public String createComment(@PathVariable Long id, @ModelAttribute CommentDTO.Request dto,
+                                Authentication authentication) {
+        commentService.create(id, dto, authentication.getName());
+        return "redirect:/posts/" + id + "#comments";
+    }
+    // 댓글 삭제 (작성자 또는 관리자)
+    @PostMapping("/{id}/comments/{commentId}/delete")
+    public String deleteComment(@PathVariable Long id, @PathVariable Long commentId, Authentication authentication) {
+        commentService.delete(id, commentId, authentication.getName(), isAdmin(authentication));
+        return "redirect:/posts/" + id + "#comments";
     }
     // 게시물 작성
     @GetMapping("/new")
@@ -47,4 +180,16 @@ public class PostController {
         postService.createPost(dto);
         return "redirect:/posts";
     }
-}
\ No newline at end of file
+
+    // 로그인 사용자용 페이지 -> 공유 캐시(CDN)에는 저장하지 않고, 브라우저는 매번 ETag로 재검증
+    // (직접 지정하면 Spring Security의 no-store 기본 헤더는 붙지 않음)
+    private static void revalidateAlways(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+    }
+
+    private boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    }
+}
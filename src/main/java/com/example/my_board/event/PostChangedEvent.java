@@ -0,0 +1,16 @@
+package com.example.my_board.event;
+
+/**
+ * 게시물 변경 이벤트
+ * PostService에서 발행하고, @TransactionalEventListener(AFTER_COMMIT)로 받아서
+ * 커밋이 끝난 뒤에만 검색 색인 등 부가 데이터를 갱신하는 용도
+ *
+ * @param postId 변경된 게시물 id
+ * @param type   변경 종류
+ */
+public record PostChangedEvent(Long postId, Type type) {
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        COMMENTED // 댓글 작성/삭제 (댓글 수와 updatedAt만 바뀜, 제목/본문은 그대로)
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.my_board.event;
+
+import java.util.List;
+
+/**
+ * 게시물 일괄 삭제 이벤트
+ * UserPurgeService가 탈퇴 회원의 게시물을 배치로 지울 때 배치마다 한 번 발행
+ * (게시물마다 PostChangedEvent를 보내면 캐시 무효화/버전 증가가 건수만큼 일어나므로)
+ *
+ * @param postIds 삭제된 게시물 id
+ */
+public record PostsDeletedEvent(List<Long> postIds) {
+}
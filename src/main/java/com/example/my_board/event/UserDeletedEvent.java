@@ -0,0 +1,11 @@
+package com.example.my_board.event;
+
+/**
+ * 회원 삭제 이벤트
+ * UserAccountService.deleteUser에서 발행 (계정 비활성화) -> 커밋 후 사용자 캐시/토큰 정리, 게시물과 계정은 UserPurgeService가 삭제
+ *
+ * @param userId   삭제된 회원 id
+ * @param username 삭제된 회원 username
+ */
+public record UserDeletedEvent(Long userId, String username) {
+}
@@ -0,0 +1,31 @@
+package com.example.my_board.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 처리 시간 (board.auth.filter{filter, outcome})
+ * 다음 필터/컨트롤러 시간은 빼고 필터 자신의 처리 시간만 기록
+ * Timer는 결과(outcome)별로 미리 만들어 두고 재사용 (요청마다 레지스트리 조회 X)
+ */
+class AuthFilterMetrics {
+    private final Map<String, Timer> timers = new HashMap<>();
+
+    AuthFilterMetrics(MeterRegistry registry, String filter, String... outcomes) {
+        for (String outcome : outcomes) {
+            timers.put(outcome, Timer.builder("board.auth.filter")
+                    .description("JWT 인증 필터 처리 시간")
+                    .tag("filter", filter)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    void record(String outcome, long startNanos) {
+        timers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,31 +1,59 @@
 package com.example.my_board.filter;
 
+import com.example.my_board.service.TokenRevocationService;
 import com.example.my_board.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
-@RequiredArgsConstructor
+@Slf4j
 public class JwtFilter extends OncePerRequestFilter {
     // SecurityConfig
+    private static final String NONE = "none";
+    private static final String VALID = "valid";
+    private static final String REFRESHED = "expired-refreshed";
+    private static final String INVALID = "invalid";
+    private static final String REVOKED = "revoked";
 
     private final JwtUtil jwtUtil;
+    // 캐시가 적용된 UserDetailsService (CachingUserDetailsService) -> 캐시 miss일 때만 DB 조회
     private final UserDetailsService userDetailsService;
+    // true: 검증된 토큰의 sub/role 클레임만으로 인증 (요청마다 DB 조회 X)
+    private final boolean claimsOnly;
+    // 폐기된 토큰 거부 (대부분 로컬 Bloom 필터에서 결정, Redis 조회 X)
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthFilterMetrics metrics;
     // 스프링으로 관리하진 않을텐데 -> SecurityConfig에서 주입할 예정
 
+    public JwtFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, boolean claimsOnly,
+                     TokenRevocationService tokenRevocationService, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.claimsOnly = claimsOnly;
+        this.tokenRevocationService = tokenRevocationService;
+        this.metrics = new AuthFilterMetrics(meterRegistry, "jwt", NONE, VALID, REFRESHED, INVALID, REVOKED);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
 
         String token = null;
         if (request.getCookies() != null) {
@@ -36,14 +64,28 @@ public class JwtFilter extends OncePerRequestFilter {
                 }
             }
         }
-        if (token == null) {
+        // 토큰이 없거나, 앞의 RefreshJwtFilter에서 재발급과 함께 이미 인증을 넣었으면 통과
+        if (token == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            metrics.record(token == null ? NONE : REFRESHED, start);
             filterChain.doFilter(request, response);
             return;
         }
 
+        String outcome = VALID;
         try {
-            String username = jwtUtil.getUsername(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // RefreshJwtFilter에서 이미 파싱했으면 그 결과를 재사용
+            Claims claims = jwtUtil.getClaims(request, token);
+            if (tokenRevocationService.isRevoked(claims)) {
+                // 로그아웃/강제 탈퇴된 토큰 -> 인증 없이 진행
+                metrics.record(REVOKED, start);
+                filterChain.doFilter(request, response);
+                return;
+            }
+            String username = claims.getSubject();
+            UserDetails userDetails = loadUser(username, claims);
+            if (!userDetails.isEnabled()) {
+                throw new DisabledException("탈퇴 처리 중인 사용자");
+            }
 
             Authentication authentication =
                     // UPAT
@@ -53,12 +95,27 @@ public class JwtFilter extends OncePerRequestFilter {
             // token의 Username으로 찾아낸 인증 정보를 SecurityContextHolder에 주입
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception e) {
-            System.err.println(e.getMessage());
+            // 만료(재발급 실패)/위조 토큰 -> 인증 없이 진행 (보호된 경로는 로그인 페이지로)
+            outcome = INVALID;
+            log.debug("JWT 인증 실패: {}", e.getMessage());
         }
+        metrics.record(outcome, start);
 
         // 나중에 꼬이지 않게 미리...
         filterChain.doFilter(request, response);
     }
 
-
-}
\ No newline at end of file
+    private UserDetails loadUser(String username, Claims claims) {
+        if (claimsOnly) {
+            List<GrantedAuthority> authorities = jwtUtil.getAuthorities(claims);
+            // role 클레임이 없는 토큰만 캐시/DB로 넘어감
+            if (!authorities.isEmpty()) {
+                return User.withUsername(username)
+                        .password("") // 토큰 인증이므로 비밀번호는 사용하지 않음
+                        .authorities(authorities)
+                        .build();
+            }
+        }
+        return userDetailsService.loadUserByUsername(username);
+    }
+}
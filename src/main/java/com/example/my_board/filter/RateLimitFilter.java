@@ -0,0 +1,103 @@
+package com.example.my_board.filter;
+
+import com.example.my_board.config.RateLimitProperties;
+import com.example.my_board.service.RateLimitService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 수 제한 필터 (JwtFilter 다음 -> 로그인 사용자는 사용자 기준, 아니면 IP 기준)
+ * 경로/메서드별 정책 중 처음 일치하는 하나를 적용, 초과하면 429 + Retry-After(초)
+ * (로그인 무차별 대입, 목록 연타 등이 DB/BCrypt까지 가기 전에 차단)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+    private final List<Route> routes = new ArrayList<>();
+    // 정책별 거절 수 (board.ratelimit.rejected{policy})
+    private final Map<String, Counter> rejected = new HashMap<>();
+
+    private record Route(RateLimitProperties.Policy policy, String method, PathPattern pattern) {
+        boolean matches(HttpServletRequest request, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(request.getMethod())) && pattern.matches(path);
+        }
+    }
+
+    public RateLimitFilter(RateLimitService rateLimitService, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimitService = rateLimitService;
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            routes.add(new Route(policy, policy.getMethod(), PathPatternParser.defaultInstance.parse(policy.getPath())));
+            rejected.put(policy.getName(), Counter.builder("board.ratelimit.rejected")
+                    .description("요청 수 제한으로 거절된 요청")
+                    .tag("policy", policy.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitProperties.Policy policy = match(request);
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long waitMillis = rateLimitService.tryAcquire(policy, clientKey(request, policy.getKey()));
+        if (waitMillis == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.get(policy.getName()).increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    private RateLimitProperties.Policy match(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Route route : routes) {
+            if (route.matches(request, path)) {
+                return route.policy();
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request, RateLimitProperties.Key key) {
+        if (key == RateLimitProperties.Key.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        // 프록시 뒤라면 server.forward-headers-strategy 설정으로 실제 클라이언트 IP가 들어오게 해야 함
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -1,14 +1,14 @@
 package com.example.my_board.filter;
 
-import com.example.my_board.model.entity.RefreshToken;
-import com.example.my_board.model.repository.RefreshTokenRepository;
+import com.example.my_board.service.TokenRefreshService;
 import com.example.my_board.util.JwtUtil;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,66 +18,89 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
-@RequiredArgsConstructor
+@Slf4j
 public class RefreshJwtFilter extends OncePerRequestFilter {
+    private static final String NONE = "none";
+    private static final String VALID = "valid";
+    private static final String REFRESHED = "expired-refreshed";
+    private static final String EXPIRED = "expired";
+    private static final String INVALID = "invalid";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    // 같은 refresh 토큰의 동시 재발급은 하나로 합쳐서 처리 (Redis 교체 1번)
+    private final TokenRefreshService tokenRefreshService;
+    private final AuthFilterMetrics metrics;
+
+    public RefreshJwtFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                            TokenRefreshService tokenRefreshService, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.tokenRefreshService = tokenRefreshService;
+        this.metrics = new AuthFilterMetrics(meterRegistry, "refresh", NONE, VALID, REFRESHED, EXPIRED, INVALID);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
 
         String accessToken = com.example.my_board.util.CookieUtil.findCookie(request, "access_token");
         if (accessToken == null) {
+            metrics.record(NONE, start);
             filterChain.doFilter(request, response);
             return;
         }
+        String outcome = VALID;
         // Refresh Token의 경우...
         try {
             // Access Token을 검증해서... (DB랑 비교해서 쿼리를 날려본게 X)
-            jwtUtil.validateToken(accessToken);
+            // validateToken()은 예외를 삼키므로 만료(ExpiredJwtException)를 알 수 없음 -> getClaims 사용
+            // 파싱 결과는 request attribute에 남겨서 JwtFilter가 재사용
+            jwtUtil.getClaims(request, accessToken);
         } catch (ExpiredJwtException ex) {
             // 만료 시에는 알아서 재발급
-            handleRefreshToken(request, response);
+            outcome = handleRefreshToken(request, response) ? REFRESHED : EXPIRED;
         } catch (Exception e) {
-            filterChain.doFilter(request, response);
-            return;
+            outcome = INVALID;
         }
+        metrics.record(outcome, start);
 
         filterChain.doFilter(request, response);
     }
 
 
-    private void handleRefreshToken(HttpServletRequest request, HttpServletResponse response) {
+    // 재발급 성공 여부 반환
+    private boolean handleRefreshToken(HttpServletRequest request, HttpServletResponse response) {
         try {
             // 1. RefreshToken CookieUtil -> Request
             String refreshToken = com.example.my_board.util.CookieUtil.findCookie(request, "refresh_token");
             if (refreshToken == null) {
-                return;
+                return false;
             }
-            String username = jwtUtil.getUsername(refreshToken); // refresh -> username
-            // 2. repository -> 저장되었는지 비교 -> 검증
-            RefreshToken stored = refreshTokenRepository.findById(username)
-                    .orElseThrow(() -> new RuntimeException("Redis에 Refresh 없음")); // stored -> store.
-            if (!refreshToken.equals(stored.getToken())) {
-                throw new RuntimeException("Refresh Token 불일치");
+            // 2. Redis에 저장된 토큰과 비교 -> 새 refresh 토큰으로 교체 + access 토큰 재발급
+            TokenRefreshService.Result result = tokenRefreshService.refresh(refreshToken);
+            UserDetails userDetails = userDetailsService.loadUserByUsername(result.username());
+            if (!userDetails.isEnabled()) {
+                return false; // 탈퇴 처리 중
             }
-            // 3. accessToken 재발급 -> cookie.
-            String role = jwtUtil.getRole(refreshToken);
-            String newAccessToken = jwtUtil.generateToken(username, role, false);
-            com.example.my_board.util.CookieUtil.createCookie(response, "access_token", newAccessToken, 60 * 60);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // 3. 새 토큰 -> cookie.
+            com.example.my_board.util.CookieUtil.createCookie(response, "access_token", result.accessToken(),
+                    (int) (jwtUtil.getAccessExpiry() / 1000));
+            com.example.my_board.util.CookieUtil.createCookie(response, "refresh_token", result.refreshToken(),
+                    (int) (jwtUtil.getRefreshExpiry() / 1000));
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
                     userDetails.getAuthorities()
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            // 이슈가 생기면... 내부에서 try-catch 예외 처리
+            return true;
+        // 이슈가 생기면... 내부에서 try-catch 예외 처리
         } catch (Exception e) {
-            System.err.println(e.getMessage());
+            log.debug("Access Token 재발급 실패: {}", e.getMessage());
+            return false;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.my_board.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CommentDTO {
+    @Getter
+    @Setter
+    public static class Request {
+        private Long parentId; // 답글이면 부모 댓글 id
+        private String content;
+    }
+
+    // 스레드 표시용 프로젝션 (작성자 이름까지 같은 쿼리에서 join)
+    public interface View {
+        Long getId();
+        String getPath();
+        int getDepth();
+        String getContent();
+        boolean isDeleted();
+        LocalDateTime getCreatedAt();
+        String getAuthorUsername();
+    }
+
+    // 최상위 댓글 기준 페이지 (items는 path 순 -> 최상위 댓글 뒤에 그 답글들)
+    @Getter
+    @AllArgsConstructor
+    public static class ThreadPage {
+        private List<View> items;
+        private int size;
+        private Long nextCursor; // ?commentsAfter=nextCursor -> 다음 최상위 댓글부터 (없으면 null)
+
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+}
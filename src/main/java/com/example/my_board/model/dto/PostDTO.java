@@ -1,8 +1,16 @@
 package com.example.my_board.model.dto;
 
+import com.example.my_board.model.entity.Post;
+import com.example.my_board.model.entity.PostArchive;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
 public class PostDTO {
     @Getter
     @Setter
@@ -11,4 +19,179 @@ public class PostDTO {
         private String content;
         private String username;
     }
+
+    // 상세 페이지용 (작성자 이름까지 미리 담아두므로 렌더링 중 지연 로딩 X)
+    // 캐시(로컬 + Redis JSON)에 그대로 저장됨
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Detail {
+        private Long id;
+        private String title;
+        private String content;
+        private String authorUsername;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private long viewCount; // 캐시된 시점의 값 (아직 반영되지 않은 조회수는 따로 더함)
+        private long commentCount;
+        private boolean archived; // post_archive의 게시물 (읽기 전용)
+
+        // 작성자(author)가 fetch join/엔티티 그래프로 함께 조회된 Post만 넘겨야 함
+        public static Detail from(Post post) {
+            Detail detail = new Detail();
+            detail.setId(post.getId());
+            detail.setTitle(post.getTitle());
+            detail.setContent(post.getContent());
+            detail.setAuthorUsername(post.getAuthor().getUsername());
+            detail.setCreatedAt(post.getCreatedAt());
+            detail.setUpdatedAt(post.getUpdatedAt());
+            detail.setViewCount(post.getViewCount());
+            detail.setCommentCount(post.getCommentCount());
+            return detail;
+        }
+
+        public static Detail from(PostArchive post) {
+            Detail detail = new Detail();
+            detail.setId(post.getId());
+            detail.setTitle(post.getTitle());
+            detail.setContent(post.getContent());
+            detail.setAuthorUsername(post.getAuthor().getUsername());
+            detail.setCreatedAt(post.getCreatedAt());
+            detail.setUpdatedAt(post.getUpdatedAt());
+            detail.setViewCount(post.getViewCount());
+            detail.setCommentCount(post.getCommentCount());
+            detail.setArchived(true);
+            return detail;
+        }
+    }
+
+    // 상세 페이지 조건부 GET에 필요한 값만 (PostCacheService가 id별로 따로 캐시 -> 304면 본문을 읽지 않음)
+    @Getter
+    @AllArgsConstructor
+    public static class Validator {
+        private final long lastModified; // epoch ms, updatedAt이 없는 예전 행은 createdAt (둘 다 없으면 0)
+        private final String authorUsername;
+        private final boolean archived;
+
+        public static Validator from(Detail detail) {
+            LocalDateTime modified = detail.getUpdatedAt() != null ? detail.getUpdatedAt() : detail.getCreatedAt();
+            long lastModified = modified == null ? 0L
+                    : modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return new Validator(lastModified, detail.getAuthorUsername(), detail.isArchived());
+        }
+    }
+
+    // 목록용 읽기 전용 프로젝션 (Spring Data 인터페이스 프로젝션)
+    // 엔티티가 아니므로 영속성 컨텍스트에 스냅샷이 남지 않고, content(TEXT)도 읽지 않음
+    public interface Summary {
+        Long getId();
+        String getTitle();
+        String getExcerpt();
+        LocalDateTime getCreatedAt();
+        long getViewCount();
+        long getCommentCount();
+        String getAuthorUsername();
+    }
+
+    // 새 글 알림(SSE) 한 건 -> JSON으로 Redis Pub/Sub을 거쳐 모든 노드의 구독자에게 전달
+    @Getter
+    @AllArgsConstructor
+    public static class StreamItem {
+        private Long id;
+        private String title;
+        private String excerpt;
+        private String authorUsername;
+        private LocalDateTime createdAt;
+
+        public static StreamItem from(Summary summary) {
+            return new StreamItem(summary.getId(), summary.getTitle(), summary.getExcerpt(),
+                    summary.getAuthorUsername(), summary.getCreatedAt());
+        }
+    }
+
+    // 검색 색인 적재용 프로젝션 (작성자 등 연관관계는 읽지 않음)
+    public interface Indexable {
+        Long getId();
+        String getTitle();
+        String getContent();
+        String getExcerpt();
+        LocalDateTime getCreatedAt();
+    }
+
+    // 검색 결과 한 건
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHit {
+        private Long id;
+        private String title;
+        private String excerpt;
+        private LocalDateTime createdAt;
+        private double score;
+    }
+
+    // 검색 결과 페이지 (page는 0부터)
+    @Getter
+    @AllArgsConstructor
+    public static class SearchPage {
+        private String query;
+        private List<SearchHit> hits;
+        private int page;
+        private int size;
+        private int total;
+
+        public boolean hasNext() {
+            return ((long) page + 1) * size < total;
+        }
+
+        public boolean hasPrev() {
+            return page > 0;
+        }
+    }
+
+    // 대량 등록 한 행 (NDJSON 한 줄 / CSV 한 행)
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportRow {
+        private String title;
+        private String content;
+        private String username;
+        private LocalDateTime createdAt; // 없으면 등록 시각 (기존 게시판 이전 시 원래 작성일 유지용)
+    }
+
+    // 대량 등록 진행 상황
+    @Getter
+    @AllArgsConstructor
+    public static class ImportProgress {
+        private String status; // RUNNING, DONE, FAILED
+        private long rows;     // 읽은 행
+        private long inserted; // 등록된 행
+        private long skipped;  // 작성자 없음/필수값 누락으로 건너뛴 행
+        private long batches;
+        private long elapsedMillis;
+        private String error;
+
+        public long getRowsPerSecond() {
+            return elapsedMillis == 0 ? inserted : inserted * 1000 / elapsedMillis;
+        }
+    }
+
+    // 커서 페이징 결과 (목록 + 다음/이전 페이지 커서)
+    @Getter
+    @AllArgsConstructor
+    public static class CursorPage<T> {
+        private List<T> items;
+        private int size;
+        private Long nextCursor; // ?after=nextCursor -> 더 오래된 글 (없으면 null)
+        private Long prevCursor; // ?before=prevCursor -> 더 최신 글 (없으면 null)
+
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+
+        public boolean hasPrev() {
+            return prevCursor != null;
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.my_board.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class UserAccountDTO {
+    // username -> id 변환용 프로젝션 (비밀번호 등은 읽지 않음)
+    public interface IdAndUsername {
+        Long getId();
+        String getUsername();
+    }
+
+    // 관리자 회원 목록/내보내기용 프로젝션 (비밀번호 해시는 SELECT 하지 않음)
+    public interface Summary {
+        Long getId();
+        String getUsername();
+        String getRole();
+        boolean isEnabled();
+    }
+
+    // 탈퇴 회원 정리 진행 상황 (관리자 페이지)
+    @Getter
+    @AllArgsConstructor
+    public static class PurgeProgress {
+        private Long userId;
+        private String username;
+        private String status;       // QUEUED, RUNNING, DONE, FAILED
+        private long deletedPosts;
+        private long deletedComments;
+        private long batches;
+        private long elapsedMillis;
+        private String error;
+    }
+}
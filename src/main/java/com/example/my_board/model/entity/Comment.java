@@ -0,0 +1,56 @@
+package com.example.my_board.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 댓글 (materialized path)
+ * path = 조상부터 자기 자신까지 id를 고정 길이(SEGMENT_LENGTH) 36진수로 이어 붙인 문자열
+ * -> path 순 정렬이 곧 스레드 순서 (부모 다음에 자식, 형제는 작성 순)
+ * -> 최상위 댓글 하나의 스레드 = path가 그 댓글의 path로 시작하는 범위 -> (post_id, path) 인덱스 범위 조회 한 번
+ *
+ * post_id는 외래 키 없이 값만 저장 (게시물이 post -> post_archive로 옮겨가도 댓글은 그대로)
+ */
+@Entity
+@Getter
+@Setter
+@Table(indexes = @Index(name = "idx_comment_post_id_path", columnList = "post_id, path"))
+public class Comment extends BaseEntity {
+    public static final int CONTENT_LENGTH = 1000;
+    public static final int SEGMENT_LENGTH = 8; // 36^8 ≈ 2.8조 -> id 범위 충분
+    public static final int MAX_DEPTH = 8;      // 더 깊은 답글은 같은 깊이에 (부모의 형제로) 붙음
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    // 탈퇴 회원의 댓글 중 답글이 달린 것은 자리만 남기고 작성자를 비움 (null, deleted = true)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_account_id")
+    private UserAccount author;
+
+    @Column(nullable = false, length = CONTENT_LENGTH)
+    private String content;
+
+    // INSERT 후 id가 정해지면 채움 (같은 트랜잭션 안에서 UPDATE)
+    @Column(nullable = false, length = SEGMENT_LENGTH * MAX_DEPTH)
+    private String path;
+
+    // 0 = 최상위 댓글
+    @Column(nullable = false)
+    private int depth;
+
+    // 답글이 달린 댓글도 지울 수 있도록 행은 남기고 표시만 (스레드 모양 유지)
+    @Column(nullable = false)
+    private boolean deleted;
+
+    // id -> path 한 칸 (0으로 채운 고정 길이 -> 문자열 비교 = 숫자 비교)
+    public static String segment(long id) {
+        String encoded = Long.toString(id, 36);
+        return "0".repeat(Math.max(0, SEGMENT_LENGTH - encoded.length())) + encoded;
+    }
+}
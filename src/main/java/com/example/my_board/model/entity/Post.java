@@ -3,12 +3,18 @@ package com.example.my_board.model.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
 @Setter
 //@Table(name = "MY_POST")
+// 커서 페이징 (created_at, id) 정렬/탐색용 인덱스
+@Table(indexes = @Index(name = "idx_post_created_at_id", columnList = "created_at, id"))
 public class Post extends BaseEntity {
+    // 목록에 보여줄 요약문 길이 (글자 수)
+    public static final int EXCERPT_LENGTH = 100;
+
     // ID
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,8 +26,38 @@ public class Post extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록용 요약문 (작성 시점에 content 앞부분을 잘라서 저장)
+    // -> 목록 조회 시 TEXT 컬럼을 읽지 않아도 됨
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    // 조회수 (PostViewCountService가 모아서 주기적으로 일괄 반영, 엔티티에서 직접 증가시키지 않음)
+    // updatable = false: 게시글 수정의 UPDATE가 읽어 둔 옛 값으로 덮어쓰지 않게 (view_count = view_count + ?로만 변경)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
+
+    // 댓글 수 (삭제 표시된 댓글 제외) -> 목록에서 댓글을 세지 않도록 미리 저장
+    // CommentService가 댓글 작성/삭제와 같은 트랜잭션에서 UPDATE ... SET comment_count = comment_count + ?로 갱신
+    // viewCount와 같은 이유로 updatable = false
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
     // 현재 entity -> 게시물이 많은쪽
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_account_id", nullable = false)
     private UserAccount author;
-}
\ No newline at end of file
+
+    // content -> excerpt (공백 정리 후 EXCERPT_LENGTH 글자까지, 이모지 등 서로게이트 쌍은 자르지 않음)
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.codePointCount(0, normalized.length()) <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+        return normalized.substring(0, normalized.offsetByCodePoints(0, EXCERPT_LENGTH));
+    }
+}
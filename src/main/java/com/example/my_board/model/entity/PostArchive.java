@@ -0,0 +1,38 @@
+package com.example.my_board.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 보관(cold) 게시물 -> post와 같은 컬럼, 같은 id
+ * PostArchiveService가 오래된 게시물을 post에서 배치로 옮겨옴 (INSERT ... SELECT 후 DELETE)
+ * 읽기 전용: 조회/삭제만 하고 내용 수정은 X (조회수는 PostViewCountService가 SQL로 직접 반영)
+ */
+@Entity
+@Getter
+@Table(name = "post_archive",
+        indexes = @Index(name = "idx_post_archive_created_at_id", columnList = "created_at, id"))
+public class PostArchive extends BaseEntity {
+    // post에서의 id를 그대로 사용 (생성 전략 X)
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(length = Post.EXCERPT_LENGTH)
+    private String excerpt;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long commentCount;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_account_id", nullable = false)
+    private UserAccount author;
+}
@@ -1,17 +0,0 @@
-package com.example.my_board.model.entity;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-
-@Getter
-@NoArgsConstructor
-@AllArgsConstructor
-@RedisHash(value = "refreshToken", timeToLive = 60 * 60 * 24) // refreshToken 이게 키값
-public class RefreshToken {
-    @Id
-    private String username;
-    private String token;
-}
\ No newline at end of file
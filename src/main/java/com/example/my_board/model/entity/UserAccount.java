@@ -3,6 +3,7 @@ package com.example.my_board.model.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 
 @Entity
@@ -21,4 +22,8 @@ public class UserAccount {
     private String password;
     @Column(nullable = false, length = 20)
     private String role; // ROLE_USER, ROLE_ADMIN
+    // false: 탈퇴 처리 중 (로그인/토큰 인증 차단, UserPurgeService가 게시물을 지운 뒤 계정 삭제)
+    @ColumnDefault("true")
+    @Column(nullable = false)
+    private boolean enabled = true;
 }
\ No newline at end of file
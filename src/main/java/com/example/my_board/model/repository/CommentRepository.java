@@ -0,0 +1,55 @@
+package com.example.my_board.model.repository;
+
+import com.example.my_board.model.dto.CommentDTO;
+import com.example.my_board.model.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @EntityGraph(attributePaths = "author")
+    Optional<Comment> findWithAuthorById(Long id);
+
+    // === 스레드 조회 (모두 (post_id, path) 인덱스 범위) ===
+
+    // 페이지 경계: from 이후 최상위 댓글의 path (최상위 댓글의 path = 자기 id 한 칸)
+    @Query("""
+            select c.path from Comment c
+            where c.postId = :postId and c.depth = 0 and c.path >= :from
+            order by c.path asc
+            """)
+    List<String> findRootPaths(@Param("postId") Long postId, @Param("from") String from, Pageable pageable);
+
+    // [from, to) 범위의 댓글 전체 = 최상위 댓글 여러 개와 그 답글들
+    // (left join: 탈퇴 회원의 자리만 남은 댓글은 작성자가 없음)
+    @Query("""
+            select c.id as id, c.path as path, c.depth as depth, c.content as content,
+                   c.deleted as deleted, c.createdAt as createdAt, a.username as authorUsername
+            from Comment c left join c.author a
+            where c.postId = :postId and c.path >= :from and c.path < :to
+            order by c.path asc
+            """)
+    List<CommentDTO.View> findThreads(@Param("postId") Long postId, @Param("from") String from, @Param("to") String to);
+
+    // 마지막 페이지: from부터 끝까지
+    @Query("""
+            select c.id as id, c.path as path, c.depth as depth, c.content as content,
+                   c.deleted as deleted, c.createdAt as createdAt, a.username as authorUsername
+            from Comment c left join c.author a
+            where c.postId = :postId and c.path >= :from
+            order by c.path asc
+            """)
+    List<CommentDTO.View> findThreadsFrom(@Param("postId") Long postId, @Param("from") String from);
+
+    // 게시물 삭제 시 댓글도 함께 (한 게시물 = 인덱스 범위 하나)
+    @Modifying
+    @Query("delete from Comment c where c.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
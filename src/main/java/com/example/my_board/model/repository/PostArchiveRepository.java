@@ -0,0 +1,81 @@
+package com.example.my_board.model.repository;
+
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.entity.PostArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 보관 게시물 조회 -> PostRepository와 같은 쿼리를 post_archive 대상으로
+// (보관 게시물은 항상 post의 게시물보다 오래됐으므로 PostService가 post를 먼저 읽고 모자랄 때만 조회)
+public interface PostArchiveRepository extends JpaRepository<PostArchive, Long> {
+
+    @EntityGraph(attributePaths = "author")
+    Optional<PostArchive> findWithAuthorById(Long id);
+
+    @Query("select p.createdAt from PostArchive p where p.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from PostArchive p join p.author a
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostDTO.Summary> findLatest(Pageable pageable);
+
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from PostArchive p join p.author a
+            where p.createdAt < :createdAt
+               or (p.createdAt = :createdAt and p.id < :id)
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostDTO.Summary> findOlderThan(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from PostArchive p join p.author a
+            where p.createdAt > :createdAt
+               or (p.createdAt = :createdAt and p.id > :id)
+            order by p.createdAt asc, p.id asc
+            """)
+    List<PostDTO.Summary> findNewerThan(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 댓글 수 증감 (읽고 더해서 저장하지 않고 UPDATE 한 번 -> 동시에 달린 댓글도 유실 X)
+    // updatedAt도 함께 갱신 -> 상세 페이지 ETag/Last-Modified가 바뀌어 새 댓글이 보임
+    @Modifying
+    @Query("update PostArchive p set p.commentCount = p.commentCount + :delta, p.updatedAt = :now where p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    // === 검색 색인 적재 ===
+    @Query("""
+            select p.id as id, p.title as title, p.content as content,
+                   p.excerpt as excerpt, p.createdAt as createdAt
+            from PostArchive p
+            where p.id > :afterId
+            order by p.id asc
+            """)
+    List<PostDTO.Indexable> findIndexBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select p.id as id, p.title as title, p.content as content,
+                   p.excerpt as excerpt, p.createdAt as createdAt
+            from PostArchive p
+            where p.id = :id
+            """)
+    Optional<PostDTO.Indexable> findIndexableById(@Param("id") Long id);
+}
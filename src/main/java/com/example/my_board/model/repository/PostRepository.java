@@ -1,8 +1,111 @@
 package com.example.my_board.model.repository;
 
+import com.example.my_board.model.dto.PostDTO;
 import com.example.my_board.model.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     // 검색과 페이징을 위한 메서드...(?) JPA Query Method...
+
+    // 상세 조회: 작성자를 같은 쿼리에서 join으로 가져옴 (지연 로딩 쿼리 X)
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findWithAuthorById(Long id);
+
+    // === 커서(keyset) 페이징 ===
+    // OFFSET 방식은 뒤 페이지로 갈수록 건너뛸 행을 전부 읽어야 해서 느려짐
+    // (created_at, id) 인덱스를 타고 "커서 다음 행"부터 바로 읽기 때문에 몇 페이지든 비용이 일정함
+    // Pageable은 LIMIT 용도로만 사용 (List 반환 -> count 쿼리 없음)
+    // 목록은 PostDTO.Summary 프로젝션으로 필요한 컬럼만 조회 (content 제외)
+    // 작성자 이름도 같은 쿼리에서 join -> 게시물마다 user_account를 따로 조회하지 않음 (N+1 X)
+
+    // 커서로 쓰는 게시물 id -> 정렬 기준인 created_at 조회 (PK 조회)
+    @Query("select p.createdAt from Post p where p.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
+    // 첫 페이지 (최신순)
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from Post p join p.author a
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostDTO.Summary> findLatest(Pageable pageable);
+
+    // 커서보다 오래된 게시물 (다음 페이지)
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from Post p join p.author a
+            where p.createdAt < :createdAt
+               or (p.createdAt = :createdAt and p.id < :id)
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PostDTO.Summary> findOlderThan(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 커서보다 최신 게시물 (이전 페이지) -> 오름차순으로 읽고 서비스에서 뒤집음
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from Post p join p.author a
+            where p.createdAt > :createdAt
+               or (p.createdAt = :createdAt and p.id > :id)
+            order by p.createdAt asc, p.id asc
+            """)
+    List<PostDTO.Summary> findNewerThan(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 가장 오래된 게시물부터 (이전 페이지 커서가 보관 게시물일 때, 보관 테이블 다음에 이어서 읽음)
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from Post p join p.author a
+            order by p.createdAt asc, p.id asc
+            """)
+    List<PostDTO.Summary> findOldest(Pageable pageable);
+
+    // 새 글 알림(SSE)용 요약 한 건
+    @Query("""
+            select p.id as id, p.title as title, p.excerpt as excerpt, p.createdAt as createdAt,
+                   p.viewCount as viewCount, p.commentCount as commentCount, a.username as authorUsername
+            from Post p join p.author a
+            where p.id = :id
+            """)
+    Optional<PostDTO.Summary> findSummaryById(@Param("id") Long id);
+
+    // 댓글 수 증감 (읽고 더해서 저장하지 않고 UPDATE 한 번 -> 동시에 달린 댓글도 유실 X)
+    // updatedAt도 함께 갱신 -> 상세 페이지 ETag/Last-Modified가 바뀌어 새 댓글이 보임
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta, p.updatedAt = :now where p.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    // === 검색 색인 적재 ===
+    // 전체를 한 번에 읽지 않고 id 순으로 잘라서(batch) 읽음 -> 메모리 일정
+    @Query("""
+            select p.id as id, p.title as title, p.content as content,
+                   p.excerpt as excerpt, p.createdAt as createdAt
+            from Post p
+            where p.id > :afterId
+            order by p.id asc
+            """)
+    List<PostDTO.Indexable> findIndexBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select p.id as id, p.title as title, p.content as content,
+                   p.excerpt as excerpt, p.createdAt as createdAt
+            from Post p
+            where p.id = :id
+            """)
+    Optional<PostDTO.Indexable> findIndexableById(@Param("id") Long id);
 }
@@ -1,7 +0,0 @@
-package com.example.my_board.model.repository;
-
-import com.example.my_board.model.entity.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
-
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.example.my_board.model.repository;
+
+import com.example.my_board.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ * 사용자당 키 하나 (refresh:token:{username} -> 토큰의 SHA-256 해시), 만료는 Redis TTL(PX)로 처리
+ * - @RedisHash 저장소처럼 보조 인덱스 Set을 따로 관리하지 않으므로 저장/교체가 명령 하나
+ * - 교체(rotate)는 Lua 스크립트 한 번: 비교 + 새 값 저장이 원자적으로, 왕복 1회
+ * - 토큰 원문 대신 해시만 저장 (Redis가 유출돼도 토큰으로 쓸 수 없음)
+ * - 교체 결과는 grace 동안 refresh:grace:{username}:{예전 토큰 해시}에 보관 -> 다른 노드로 뒤늦게 온 요청도 같은 결과
+ *   (값은 호출하는 쪽에서 예전 토큰으로 암호화해서 넘김 -> 예전 토큰을 가진 요청만 풀 수 있음)
+ * - 두 접두어는 서로의 앞부분이 아님 -> username이 무엇이든 다른 종류의 키를 가리킬 수 없음
+ */
+@Repository
+public class RefreshTokenStore {
+    private static final String KEY_PREFIX = "refresh:token:";
+    private static final String GRACE_PREFIX = "refresh:grace:";
+    // KEYS[1]: refresh:token:{username}, KEYS[2]: refresh:grace:{username}:{제출된 토큰 해시}
+    // ARGV[1]: 제출된 토큰 해시, ARGV[2]: 새 토큰 해시, ARGV[3]: TTL(ms), ARGV[4]: 교체 결과, ARGV[5]: grace(ms)
+    // 반환: 이 토큰으로 교체한 결과 (방금 교체했으면 ARGV[4], grace 안에 이미 교체됐으면 보관된 값), 없으면 nil
+    private static final RedisScript<String> ROTATE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                if tonumber(ARGV[5]) > 0 then
+                    redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[5])
+                end
+                return ARGV[4]
+            end
+            return redis.call('GET', KEYS[2])
+            """, String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Timer saveTimer;
+    private final Timer rotateTimer;
+    private final Timer deleteTimer;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.saveTimer = timer(meterRegistry, "save");
+        this.rotateTimer = timer(meterRegistry, "rotate");
+        this.deleteTimer = timer(meterRegistry, "delete");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("board.redis")
+                .description("Redis 명령 실행 시간")
+                .tag("operation", "refresh-token." + operation)
+                .register(meterRegistry);
+    }
+
+    // 로그인: 새 refresh 토큰 저장 (이전 토큰은 덮어써서 무효)
+    public void save(String username, String refreshToken, Duration ttl) {
+        saveTimer.record(() -> redisTemplate.opsForValue().set(key(username), JwtUtil.hash(refreshToken), ttl));
+    }
+
+    // 재발급: 저장된 토큰이 presented와 같을 때만 next로 교체하고 result를 grace 동안 보관
+    // 반환: result (교체함) / grace 안에 먼저 교체한 요청의 result / null (교체된 지 오래됐거나 다른 토큰)
+    public String rotate(String username, String presented, String next, Duration ttl, String result, Duration grace) {
+        String presentedHash = JwtUtil.hash(presented);
+        return rotateTimer.record(() -> redisTemplate.execute(ROTATE,
+                List.of(key(username), GRACE_PREFIX + username + ":" + presentedHash),
+                presentedHash, JwtUtil.hash(next), String.valueOf(ttl.toMillis()),
+                result, String.valueOf(grace.toMillis())));
+    }
+
+    // 로그아웃/회원 삭제
+    public void delete(String username) {
+        deleteTimer.record(() -> {
+            redisTemplate.delete(key(username));
+        });
+    }
+
+    private static String key(String username) {
+        return KEY_PREFIX + username;
+    }
+}
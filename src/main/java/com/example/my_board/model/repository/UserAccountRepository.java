@@ -1,10 +1,30 @@
 package com.example.my_board.model.repository;
 
+import com.example.my_board.model.dto.UserAccountDTO;
 import com.example.my_board.model.entity.UserAccount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
     Optional<UserAccount> findByUsername(String username);
+
+    // 여러 username을 한 번에 id로 변환 (대량 등록 시 행마다 조회하지 않도록)
+    // 탈퇴 처리 중인 회원은 제외 -> 지우는 중에 게시물이 새로 붙지 않도록
+    List<UserAccountDTO.IdAndUsername> findByUsernameInAndEnabledTrue(Collection<String> usernames);
+
+    // 탈퇴 처리가 끝나지 않은 회원 (재시작 시 이어서 정리)
+    List<UserAccountDTO.IdAndUsername> findByEnabledFalse();
+
+    // 관리자 회원 목록: username 접두어 검색 (username 유니크 인덱스 범위 탐색)
+    // Slice -> 전체 개수 COUNT 쿼리 없이 다음 페이지 여부만 확인
+    Slice<UserAccountDTO.Summary> findByUsernameStartingWith(String prefix, Pageable pageable);
+
+    // CSV 내보내기: username 기준 키셋 배치 (after 다음부터 limit건) -> 페이지가 깊어져도 OFFSET 비용 없음
+    List<UserAccountDTO.Summary> findByUsernameStartingWithAndUsernameGreaterThanOrderByUsernameAsc(
+            String prefix, String after, Pageable pageable);
 }
@@ -0,0 +1,128 @@
+package com.example.my_board.service;
+
+import com.example.my_board.event.PostChangedEvent;
+import com.example.my_board.model.dto.CommentDTO;
+import com.example.my_board.model.entity.Comment;
+import com.example.my_board.model.entity.UserAccount;
+import com.example.my_board.model.repository.CommentRepository;
+import com.example.my_board.model.repository.PostArchiveRepository;
+import com.example.my_board.model.repository.PostRepository;
+import com.example.my_board.model.repository.UserAccountRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 (Comment의 materialized path 참고)
+ * - 조회: 최상위 댓글 size + 1개의 path로 페이지 범위를 정하고 -> 그 범위의 댓글 전체를 범위 조회 한 번으로
+ *   (댓글마다 답글을 따로 조회하지 않음, 답글이 몇 단계든 쿼리 수 일정)
+ * - 작성/삭제: 게시물의 comment_count를 같은 트랜잭션에서 UPDATE 한 번으로 증감 -> 목록은 세지 않고 컬럼만 읽음
+ *   커밋 후 PostChangedEvent(COMMENTED) -> 상세 캐시 무효화 (목록 버전은 그대로, 댓글 수는 목록 캐시 TTL 후 반영)
+ */
+@Service
+@Timed("board.service") // public 메서드마다 실행 시간 (class, method, exception 태그)
+@RequiredArgsConstructor
+public class CommentService {
+    public static final int DEFAULT_PAGE_SIZE = 20; // 최상위 댓글 기준
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final PostArchiveRepository postArchiveRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 최상위 댓글 size개와 그 답글들 (after: 이 최상위 댓글 다음부터)
+    @Transactional(readOnly = true)
+    public CommentDTO.ThreadPage findThreads(Long postId, Long after, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // after 다음 id부터 -> after의 답글(path가 after로 시작, 더 김)은 건너뜀
+        String from = after == null ? "" : Comment.segment(after + 1);
+        List<String> roots = commentRepository.findRootPaths(postId, from, PageRequest.of(0, limit + 1));
+        if (roots.isEmpty()) {
+            return new CommentDTO.ThreadPage(List.of(), limit, null);
+        }
+        if (roots.size() <= limit) {
+            return new CommentDTO.ThreadPage(commentRepository.findThreadsFrom(postId, roots.get(0)), limit, null);
+        }
+        // 다음 페이지 첫 최상위 댓글 직전까지
+        List<CommentDTO.View> items = commentRepository.findThreads(postId, roots.get(0), roots.get(limit));
+        Long nextCursor = Long.parseLong(roots.get(limit - 1), 36);
+        return new CommentDTO.ThreadPage(items, limit, nextCursor);
+    }
+
+    @Transactional
+    public Comment create(Long postId, CommentDTO.Request dto, String username) {
+        String content = dto.getContent() == null ? "" : dto.getContent().strip();
+        if (content.isEmpty() || content.length() > Comment.CONTENT_LENGTH) {
+            throw new IllegalArgumentException("댓글은 1~" + Comment.CONTENT_LENGTH + "자로 입력해주세요");
+        }
+        UserAccount author = userAccountRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+        if (!author.isEnabled()) {
+            throw new IllegalStateException("탈퇴 처리 중인 사용자입니다");
+        }
+        // 댓글 수 증가를 먼저 -> 게시물 행 락을 잡은 상태에서 댓글 추가 (게시물 삭제와 엇갈리지 않음)
+        if (postRepository.addCommentCount(postId, 1, LocalDateTime.now()) == 0) {
+            throw postArchiveRepository.existsById(postId)
+                    ? new IllegalStateException("보관된 게시물에는 댓글을 달 수 없습니다")
+                    : new IllegalArgumentException("게시물 없음");
+        }
+
+        String parentPath = "";
+        int depth = 0;
+        if (dto.getParentId() != null) {
+            Comment parent = commentRepository.findById(dto.getParentId())
+                    .filter(c -> c.getPostId().equals(postId))
+                    .orElseThrow(() -> new IllegalArgumentException("댓글 없음"));
+            if (parent.getDepth() + 1 < Comment.MAX_DEPTH) {
+                parentPath = parent.getPath();
+                depth = parent.getDepth() + 1;
+            } else {
+                // 최대 깊이 -> 부모의 형제로
+                parentPath = parent.getPath().substring(0, parent.getPath().length() - Comment.SEGMENT_LENGTH);
+                depth = parent.getDepth();
+            }
+        }
+
+        Comment comment = new Comment();
+        comment.setPostId(postId);
+        comment.setAuthor(author);
+        comment.setContent(content);
+        comment.setDepth(depth);
+        comment.setPath(parentPath); // id가 정해진 뒤 자기 칸을 붙임
+        commentRepository.save(comment); // IDENTITY -> 바로 INSERT
+        comment.setPath(parentPath + Comment.segment(comment.getId())); // 변경 감지로 커밋 시 UPDATE
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.COMMENTED));
+        return comment;
+    }
+
+    // 작성자 또는 관리자, 행은 남기고 내용만 지움 (답글이 있어도 스레드 모양 유지)
+    @Transactional
+    public void delete(Long postId, Long commentId, String username, boolean isAdmin) {
+        Comment comment = commentRepository.findWithAuthorById(commentId)
+                .filter(c -> c.getPostId().equals(postId))
+                .orElseThrow(() -> new IllegalArgumentException("댓글 없음"));
+        UserAccount author = comment.getAuthor(); // 탈퇴 회원의 자리만 남은 댓글이면 null
+        if (!isAdmin && (author == null || !author.getUsername().equals(username))) {
+            throw new AccessDeniedException("작성자만 삭제할 수 있습니다");
+        }
+        if (comment.isDeleted()) {
+            return;
+        }
+        comment.setDeleted(true);
+        comment.setContent("");
+        LocalDateTime now = LocalDateTime.now();
+        if (postRepository.addCommentCount(postId, -1, now) == 0) {
+            postArchiveRepository.addCommentCount(postId, -1, now);
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.COMMENTED));
+    }
+}
@@ -6,15 +6,18 @@ import com.example.my_board.model.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor // 의존성 주입
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserAccountRepository userAccountRepository;
+    private final LocalUserCache localUserCache;
 
     // jwt -> username -> 전달
     @Override
@@ -28,6 +31,21 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .password(userAccount.getPassword())
                 // ROLE_*** -> User -> 붙어있으면 X
                 .roles(userAccount.getRole().replace("ROLE_", ""))
+                .disabled(!userAccount.isEnabled()) // 탈퇴 처리 중 -> 로그인 시 DisabledException
                 .build();
     }
-}
\ No newline at end of file
+
+    // 로그인 성공 후 PasswordEncoder.upgradeEncoding()이 true면 (BCrypt cost 변경 등)
+    // DaoAuthenticationProvider가 새로 해시한 비밀번호로 호출 -> DB에 다시 저장
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserAccount userAccount = userAccountRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다"));
+        userAccount.setPassword(newPassword);
+        localUserCache.removeUserFromCache(user.getUsername());
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.my_board.service;
+
+import com.example.my_board.event.UserDeletedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * JWT 필터용 사용자 캐시 (Spring Security UserCache 구현)
+ * CachingUserDetailsService와 함께 사용 -> 캐시에 없을 때만 DB(UserAccountRepository) 조회
+ * - TTL이 짧아서 권한 변경 등은 최대 TTL만큼 늦게 반영
+ * - 최대 개수 제한으로 메모리 사용량 고정
+ * - 회원 삭제 시에는 즉시 제거
+ */
+@Component
+public class LocalUserCache implements UserCache {
+    private final Cache<String, UserDetails> cache;
+
+    public LocalUserCache(
+            @Value("${jwt.user-cache.ttl:30s}") Duration ttl,
+            @Value("${jwt.user-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+
+    // 관리자가 회원을 삭제하면 커밋 후 캐시에서 제거 -> 다음 요청은 DB에서 "없음" 확인
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        removeUserFromCache(event.username());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.my_board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 오래된 게시물을 post(hot) -> post_archive(cold)로 옮기는 작업
+ * post에는 최근 hot-retention 동안의 게시물만 남김 -> 목록/작성/조회수 반영이 닿는 테이블과 인덱스가 일정한 크기로 유지됨
+ * - 배치마다 한 트랜잭션: 가장 오래된 batch-size건을 잠그고(FOR UPDATE) -> INSERT ... SELECT -> DELETE
+ *   (잠근 행은 다른 노드의 같은 작업/조회수 반영도 기다리므로 중복 이동, 증가분 유실 X)
+ * - 한 번 실행에 옮길 게 없을 때까지 반복, 배치 사이에 pause만큼 쉼 (복제 지연/락 점유 완화)
+ * - 캐시된 상세(PostDTO.Detail)는 만료될 때까지 보관 전 값이 보일 수 있음 (내용은 같고, 수정은 PostService에서 막음)
+ * - 대량 등록: 기준보다 오래된 작성일로 등록한 행은 등록 트랜잭션 안에서 바로 옮김 (moveExpired)
+ *   -> "보관된 게시물은 항상 post의 게시물보다 오래됨" (PostService 목록이 기대하는 순서)이 커밋 시점마다 유지됨
+ *
+ * MySQL 파티셔닝(PARTITION BY RANGE) 대신 별도 테이블을 쓰는 이유:
+ * 파티션 테이블은 외래 키를 가질 수 없고 모든 유니크 키에 파티션 컬럼이 들어가야 해서 (id, created_at) PK로 바꿔야 함
+ */
+@Slf4j
+@Service
+public class PostArchiveService {
+    private static final String SELECT_SQL =
+            "SELECT id FROM post WHERE created_at < ? ORDER BY created_at, id LIMIT ? FOR UPDATE";
+    private static final String INSERT_SQL = """
+            INSERT INTO post_archive (id, title, content, excerpt, view_count, comment_count, user_account_id, created_at, updated_at)
+            SELECT id, title, content, excerpt, view_count, comment_count, user_account_id, created_at, updated_at
+            FROM post WHERE id IN (%s)
+            """;
+    private static final String DELETE_SQL = "DELETE FROM post WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration hotRetention;
+    private final int batchSize;
+    private final Duration pause;
+    private final Counter moved;
+
+    public PostArchiveService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${post.archive.enabled:true}") boolean enabled,
+            @Value("${post.archive.hot-retention:180d}") Duration hotRetention,
+            @Value("${post.archive.batch-size:1000}") int batchSize,
+            @Value("${post.archive.pause:200ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.hotRetention = hotRetention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.moved = Counter.builder("board.archive.moved")
+                .description("post_archive로 옮긴 게시물")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${post.archive.interval:3600000}",
+            initialDelayString = "${post.archive.initial-delay:60000}")
+    public void archiveScheduled() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    // 보관 대상인 작성일인지 (보관을 끈 경우 항상 false)
+    public boolean isExpired(LocalDateTime createdAt) {
+        return enabled && createdAt.isBefore(cutoff());
+    }
+
+    // 호출한 쪽의 트랜잭션 안에서 기준보다 오래된 게시물을 모두 옮김 -> 옮긴 건수 (같은 커밋으로 반영)
+    public int moveExpired() {
+        LocalDateTime cutoff = cutoff();
+        int total = 0;
+        int batch;
+        do {
+            batch = moveBatch(cutoff);
+            total += batch;
+        } while (batch == batchSize);
+        moved.increment(total);
+        return total;
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(hotRetention);
+    }
+
+    // 기준 시각보다 오래된 게시물을 모두 옮김 -> 옮긴 건수
+    public synchronized long archive() {
+        LocalDateTime cutoff = cutoff();
+        long started = System.currentTimeMillis();
+        long total = 0;
+        try {
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> moveBatch(cutoff));
+                int batch = count == null ? 0 : count;
+                total += batch;
+                moved.increment(batch);
+                if (batch < batchSize) {
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // 실패한 배치만 롤백됨 -> 다음 주기에 이어서
+            log.warn("게시물 보관 이동 실패 ({}건 이동 후): {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("게시물 보관 이동: {}건, 기준 {}, {}ms", total, cutoff, System.currentTimeMillis() - started);
+        }
+        return total;
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_SQL, Long.class, Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        jdbcTemplate.update(INSERT_SQL.formatted(placeholders), args);
+        jdbcTemplate.update(DELETE_SQL.formatted(placeholders), args);
+        return ids.size();
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.ReplicaRoutingDataSource;
+import com.example.my_board.event.PostChangedEvent;
+import com.example.my_board.event.PostsDeletedEvent;
+import com.example.my_board.model.dto.PostDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 상세 2단 캐시 (로컬 Caffeine -> Redis -> MySQL)
+ * - 로컬: 노드마다 크기/TTL 제한, 같은 키를 동시에 요청하면 한 스레드만 로딩 (Caffeine get)
+ * - Redis: 노드끼리 공유, 비어있을 때는 SET NX 락을 잡은 노드 하나만 DB 조회 (나머지는 잠시 대기)
+ * - 수정/삭제: 커밋 후 Redis 키 삭제 + Pub/Sub으로 모든 노드의 로컬 캐시 제거
+ *   게시물마다 세대 번호(:gen)를 함께 올리고, DB에서 읽은 값은 읽기 전 세대 그대로일 때만 저장
+ *   -> 무효화 전에 읽은 옛 값이 무효화 뒤에 Redis에 들어가지 않음 (cache-aside 경쟁)
+ * - Redis 장애 시에는 DB로 바로 조회 (캐시는 성능용이므로 요청을 실패시키지 않음)
+ * - DB 조회는 primary에서 (replica의 옛 값이 무효화 직후 다시 캐시되지 않게)
+ */
+@Slf4j
+@Service
+public class PostCacheService {
+    private static final String KEY_PREFIX = "post:detail:";
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String GENERATION_SUFFIX = ":gen";
+    // KEYS[1]: 상세 키, KEYS[2]: 세대 키, ARGV[1]: DB 조회 전에 읽은 세대, ARGV[2]: 값, ARGV[3]: TTL(ms)
+    private static final RedisScript<Long> SET_IF_GENERATION = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+    // KEYS: (세대 키, 상세 키) 쌍 반복, ARGV[1]: 세대 키 TTL(ms) = 상세 TTL (DB 조회가 그보다 오래 걸리지는 않음)
+    private static final RedisScript<Long> EVICT = RedisScript.of("""
+            for i = 1, #KEYS, 2 do
+                redis.call('INCR', KEYS[i])
+                redis.call('PEXPIRE', KEYS[i], ARGV[1])
+                redis.call('DEL', KEYS[i + 1])
+            end
+            return #KEYS / 2
+            """, Long.class);
+    // KEYS[1]: 락 키, ARGV[1]: 락을 잡을 때 넣은 토큰 -> 내 락일 때만 해제
+    // (TTL이 지나 다른 요청이 잡은 락을 지우지 않게)
+    private static final RedisScript<Long> UNLOCK = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final String INVALIDATE_CHANNEL = "post:detail:invalidate";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(5);
+    private static final long LOCK_WAIT_MILLIS = 50;
+    private static final int LOCK_WAIT_TRIES = 20;
+
+    private final PostService postService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, PostDTO.Detail> local;
+    // 조건부 GET용 (수정 시각, 작성자, 보관 여부) -> 항목이 작아서 상세보다 많이 보관, 무효화는 상세와 함께
+    private final Cache<Long, PostDTO.Validator> validators;
+
+    // 적중/실패 지표 (로컬 캐시는 Caffeine recordStats 사용)
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder dbLoads = new LongAdder();
+
+    public PostCacheService(
+            PostService postService,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${post.cache.local.ttl:30s}") Duration localTtl,
+            @Value("${post.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${post.cache.validator.max-size:100000}") long validatorMaxSize,
+            @Value("${post.cache.redis-ttl:10m}") Duration redisTtl) {
+        this.postService = postService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaxSize)
+                .recordStats()
+                .build();
+        this.validators = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(validatorMaxSize)
+                .build();
+        // 다른 노드에서 수정/삭제된 게시물 -> 로컬 캐시에서 제거 (메시지: id 또는 쉼표로 구분한 id 목록)
+        listenerContainer.addMessageListener((message, pattern) -> {
+            for (String id : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+                local.invalidate(Long.valueOf(id));
+                validators.invalidate(Long.valueOf(id));
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    // 상세 조회 (없는 게시물이면 IllegalArgumentException, 캐시하지 않음)
+    public PostDTO.Detail get(Long id) {
+        return local.get(id, this::loadShared);
+    }
+
+    // 조건부 GET용 값 (없으면 상세를 읽어서 만듦, 없는 게시물이면 IllegalArgumentException)
+    public PostDTO.Validator validator(Long id) {
+        PostDTO.Validator validator = validators.getIfPresent(id);
+        if (validator == null) {
+            validator = PostDTO.Validator.from(get(id));
+            validators.put(id, validator);
+        }
+        return validator;
+    }
+
+    // 로컬 캐시 miss -> Redis -> (락을 잡은 노드만) DB
+    private PostDTO.Detail loadShared(Long id) {
+        String key = KEY_PREFIX + id;
+        try {
+            PostDTO.Detail cached = readRedis(key);
+            if (cached != null) {
+                redisHits.increment();
+                return cached;
+            }
+            redisMisses.increment();
+
+            String lockKey = key + LOCK_SUFFIX;
+            String lockToken = UUID.randomUUID().toString();
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, LOCK_TTL);
+            if (Boolean.TRUE.equals(locked)) {
+                try {
+                    String generation = redisTemplate.opsForValue().get(key + GENERATION_SUFFIX);
+                    PostDTO.Detail detail = loadFromDb(id);
+                    // 조회하는 동안 무효화됐으면 저장하지 않음 (이번 요청에만 사용)
+                    redisTemplate.execute(SET_IF_GENERATION, List.of(key, key + GENERATION_SUFFIX),
+                            generation == null ? "0" : generation,
+                            objectMapper.writeValueAsString(detail), String.valueOf(redisTtl.toMillis()));
+                    return detail;
+                } finally {
+                    redisTemplate.execute(UNLOCK, List.of(lockKey), lockToken);
+                }
+            }
+            // 다른 노드가 로딩 중 -> 잠깐 기다렸다가 Redis에서 다시 읽음
+            for (int i = 0; i < LOCK_WAIT_TRIES; i++) {
+                Thread.sleep(LOCK_WAIT_MILLIS);
+                cached = readRedis(key);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("게시물 캐시(Redis) 사용 실패, DB에서 조회: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return loadFromDb(id);
+    }
+
+    private PostDTO.Detail readRedis(String key) throws JsonProcessingException {
+        String json = redisTemplate.opsForValue().get(key);
+        return json == null ? null : objectMapper.readValue(json, PostDTO.Detail.class);
+    }
+
+    // 여러 요청이 계속 쓰는 값이므로 replica 지연과 상관없이 primary에서 읽음
+    private PostDTO.Detail loadFromDb(Long id) {
+        dbLoads.increment();
+        return ReplicaRoutingDataSource.usePrimary(() -> postService.findDetail(id));
+    }
+
+    // 수정/삭제 커밋 후 무효화 -> Redis 키 삭제, 모든 노드에 알림
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.CREATED) {
+            return;
+        }
+        evict(event.postId());
+    }
+
+    public void evict(Long id) {
+        local.invalidate(id);
+        validators.invalidate(id);
+        try {
+            redisTemplate.execute(EVICT, evictKeys(List.of(id)), String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(id));
+        } catch (DataAccessException e) {
+            // Redis에 남은 값은 redisTtl 후 만료, 다른 노드의 로컬 캐시는 local ttl 후 만료
+            log.warn("게시물 캐시 무효화 실패 (id={}): {}", id, e.getMessage());
+        }
+    }
+
+    // EVICT 스크립트의 KEYS: (세대 키, 상세 키) 쌍
+    private static List<String> evictKeys(List<Long> ids) {
+        List<String> keys = new ArrayList<>(ids.size() * 2);
+        for (Long id : ids) {
+            keys.add(KEY_PREFIX + id + GENERATION_SUFFIX);
+            keys.add(KEY_PREFIX + id);
+        }
+        return keys;
+    }
+
+    // 일괄 삭제 -> Redis 스크립트 한 번, 무효화 메시지 한 번
+    @TransactionalEventListener
+    public void onPostsDeleted(PostsDeletedEvent event) {
+        List<Long> ids = event.postIds();
+        if (ids.isEmpty()) {
+            return;
+        }
+        local.invalidateAll(ids);
+        validators.invalidateAll(ids);
+        try {
+            redisTemplate.execute(EVICT, evictKeys(ids), String.valueOf(redisTtl.toMillis()));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL,
+                    String.join(",", ids.stream().map(String::valueOf).toList()));
+        } catch (DataAccessException e) {
+            log.warn("게시물 캐시 일괄 무효화 실패 ({}건): {}", ids.size(), e.getMessage());
+        }
+    }
+
+    // 관리자 페이지 표시용 지표
+    public Map<String, Long> stats() {
+        CacheStats localStats = local.stats();
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("localHits", localStats.hitCount());
+        stats.put("localMisses", localStats.missCount());
+        stats.put("localSize", local.estimatedSize());
+        stats.put("redisHits", redisHits.sum());
+        stats.put("redisMisses", redisMisses.sum());
+        stats.put("dbLoads", dbLoads.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.my_board.service;
+
+import com.example.my_board.model.entity.Post;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * excerpt가 비어 있는 예전 게시물 채우기 (요약문 컬럼을 추가하기 전에 작성된 행)
+ * 목록은 excerpt만 읽으므로 NULL이면 요약문 없이 보임
+ * - post, post_archive를 id 순서로 batch-size건씩 읽음 (keyset: id > 마지막 id) -> 테이블 크기와 상관없이 메모리 일정
+ * - 배치마다 UPDATE 배치 한 번 (자동 커밋), 요약문은 작성 시와 같은 Post.excerptOf
+ * - "AND excerpt IS NULL" 조건으로 갱신 -> 그 사이 수정된 게시물의 요약문을 덮어쓰지 않음
+ * - 시작 시 백그라운드로 한 번 (post.backfill.enabled), 관리자 페이지에서 다시 실행 가능 (이미 진행 중이면 무시)
+ */
+@Slf4j
+@Service
+public class PostExcerptBackfillService implements ApplicationRunner {
+    private static final List<String> TABLES = List.of("post", "post_archive");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public PostExcerptBackfillService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${post.backfill.enabled:true}") boolean enabled,
+            @Value("${post.backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            backfillAsync();
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // 백그라운드로 실행 (이미 진행 중이면 false)
+    public boolean backfillAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread worker = new Thread(() -> {
+            try {
+                for (String table : TABLES) {
+                    long filled = backfill(table);
+                    if (filled > 0) {
+                        log.info("{} 요약문 채움: {}건", table, filled);
+                    }
+                }
+            } catch (Exception e) {
+                // 채운 배치는 커밋됨 -> 다음 실행에서 이어서
+                log.warn("게시물 요약문 채우기 실패: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        }, "post-excerpt-backfill");
+        worker.setDaemon(true);
+        worker.start();
+        return true;
+    }
+
+    private long backfill(String table) {
+        String selectSql = "SELECT id, content FROM " + table + " WHERE id > ? AND excerpt IS NULL ORDER BY id LIMIT ?";
+        String updateSql = "UPDATE " + table + " SET excerpt = ? WHERE id = ? AND excerpt IS NULL";
+        long lastId = 0L;
+        long total = 0;
+        while (true) {
+            // (요약문, id) -> UPDATE 인자 순서
+            List<Object[]> args = jdbcTemplate.query(selectSql,
+                    (rs, i) -> new Object[]{Post.excerptOf(rs.getString("content")), rs.getLong("id")},
+                    lastId, batchSize);
+            if (args.isEmpty()) {
+                return total;
+            }
+            jdbcTemplate.batchUpdate(updateSql, args);
+            lastId = (Long) args.get(args.size() - 1)[1];
+            total += args.size();
+            if (args.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+}
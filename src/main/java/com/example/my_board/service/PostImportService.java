@@ -0,0 +1,260 @@
+package com.example.my_board.service;
+
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.dto.UserAccountDTO;
+import com.example.my_board.model.entity.Post;
+import com.example.my_board.model.repository.UserAccountRepository;
+import com.example.my_board.util.CsvReader;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 게시물 대량 등록 (기존 게시판 이전용)
+ * Post는 IDENTITY 전략이라 Hibernate가 INSERT를 한 건씩 실행하고 JDBC 배치를 쓰지 못하므로,
+ * JPA를 거치지 않고 JdbcTemplate 배치 INSERT로 직접 등록
+ * - 입력은 스트리밍으로 한 행씩 읽음 (NDJSON / CSV) -> 파일 크기와 상관없이 메모리 일정
+ * - 작성자는 배치마다 username IN (...) 한 번으로 조회 (행마다 findByUsername X)
+ * - 배치마다 커밋 -> 중간에 실패해도 그 전 배치까지는 반영됨
+ * - MySQL은 rewriteBatchedStatements=true 여야 배치가 multi-row INSERT로 전송됨 (application.yml)
+ * - 보관 기준보다 오래된 작성일의 행은 같은 트랜잭션에서 post_archive로 옮긴 뒤 커밋 (PostArchiveService.moveExpired)
+ */
+@Slf4j
+@Service
+public class PostImportService {
+    private static final String INSERT_SQL = """
+            INSERT INTO post (title, content, excerpt, view_count, comment_count, user_account_id, created_at, updated_at)
+            VALUES (?, ?, ?, 0, 0, ?, ?, ?)
+            """;
+    private static final String BOM = "\uFEFF";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserAccountRepository userAccountRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final PostSearchService postSearchService;
+    private final PostVersionService postVersionService;
+    private final PostArchiveService postArchiveService;
+    private final int batchSize;
+
+    // 한 번에 하나의 등록만 실행 (진행 상황은 관리자 페이지/상태 API에서 조회)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<PostDTO.ImportProgress> progress = new AtomicReference<>();
+
+    public PostImportService(
+            JdbcTemplate jdbcTemplate,
+            UserAccountRepository userAccountRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            PostSearchService postSearchService,
+            PostVersionService postVersionService,
+            PostArchiveService postArchiveService,
+            @Value("${post.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userAccountRepository = userAccountRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postSearchService = postSearchService;
+        this.postVersionService = postVersionService;
+        this.postArchiveService = postArchiveService;
+        this.batchSize = batchSize;
+    }
+
+    public PostDTO.ImportProgress getProgress() {
+        return progress.get();
+    }
+
+    // NDJSON: 한 줄에 {"title": ..., "content": ..., "username": ..., "createdAt": ...}
+    public PostDTO.ImportProgress importNdjson(InputStream input) {
+        return run((sink, skip) -> {
+            try (MappingIterator<PostDTO.ImportRow> rows = objectMapper
+                    .readerFor(PostDTO.ImportRow.class)
+                    .readValues(input)) {
+                while (rows.hasNextValue()) {
+                    sink.accept(rows.nextValue());
+                }
+            }
+        });
+    }
+
+    // CSV: 첫 행은 헤더 (title, content, username[, createdAt])
+    // - 엑셀 등에서 저장한 파일의 UTF-8 BOM은 첫 헤더 칸에서 제거
+    // - createdAt을 해석할 수 없는 행은 건너뜀 (등록 전체를 실패시키지 않음)
+    public PostDTO.ImportProgress importCsv(InputStream input) {
+        return run((sink, skip) -> {
+            CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+            List<String> header = csv.readRow();
+            if (header == null) {
+                return;
+            }
+            if (!header.isEmpty() && header.get(0).startsWith(BOM)) {
+                header.set(0, header.get(0).substring(BOM.length()));
+            }
+            int title = header.indexOf("title");
+            int content = header.indexOf("content");
+            int username = header.indexOf("username");
+            int createdAt = header.indexOf("createdAt");
+            if (title < 0 || content < 0 || username < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 title, content, username이 필요합니다");
+            }
+            List<String> row;
+            while ((row = csv.readRow()) != null) {
+                LocalDateTime created = null;
+                if (createdAt >= 0 && !column(row, createdAt).isBlank()) {
+                    try {
+                        created = LocalDateTime.parse(column(row, createdAt));
+                    } catch (DateTimeParseException e) {
+                        skip.run();
+                        continue;
+                    }
+                }
+                sink.accept(new PostDTO.ImportRow(
+                        column(row, title),
+                        column(row, content),
+                        column(row, username),
+                        created));
+            }
+        });
+    }
+
+    private static String column(List<String> row, int index) {
+        return index < row.size() ? row.get(index) : "";
+    }
+
+    private PostDTO.ImportProgress run(RowSource source) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 대량 등록이 진행 중입니다");
+        }
+        Counter counter = new Counter(System.currentTimeMillis());
+        List<PostDTO.ImportRow> batch = new ArrayList<>(batchSize);
+        long lastIdBefore = 0L;
+        try {
+            lastIdBefore = lastPostId();
+            progress.set(counter.snapshot("RUNNING", null));
+            source.read(row -> {
+                counter.rows++;
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    insertBatch(batch, counter);
+                    batch.clear();
+                }
+            }, () -> {
+                counter.rows++;
+                counter.skipped++;
+            });
+            if (!batch.isEmpty()) {
+                insertBatch(batch, counter);
+            }
+            PostDTO.ImportProgress done = counter.snapshot("DONE", null);
+            progress.set(done);
+            log.info("게시물 대량 등록 완료: {}건 등록, {}건 건너뜀, {} rows/s",
+                    done.getInserted(), done.getSkipped(), done.getRowsPerSecond());
+            return done;
+        } catch (Exception e) {
+            PostDTO.ImportProgress failed = counter.snapshot("FAILED", e.getMessage());
+            progress.set(failed);
+            log.warn("게시물 대량 등록 실패 ({}건 등록 후): {}", counter.inserted, e.getMessage());
+            return failed;
+        } finally {
+            running.set(false);
+            // 새로 등록된 게시물을 검색 색인에 반영 (마지막 색인 id 이후만 읽음, 바로 보관된 게시물은 등록 전 마지막 id 이후)
+            postSearchService.catchUp();
+            if (counter.archived > 0) {
+                postSearchService.catchUpArchive(lastIdBefore);
+            }
+            // PostChangedEvent를 거치지 않으므로 목록 버전(ETag)도 직접 갱신
+            if (counter.inserted > 0) {
+                postVersionService.bump();
+            }
+        }
+    }
+
+    private void insertBatch(List<PostDTO.ImportRow> rows, Counter counter) {
+        // 작성자: 배치 단위로 한 번에 조회
+        Set<String> usernames = new HashSet<>();
+        rows.forEach(r -> usernames.add(r.getUsername()));
+        Map<String, Long> authorIds = new HashMap<>();
+        for (UserAccountDTO.IdAndUsername user : userAccountRepository.findByUsernameInAndEnabledTrue(usernames)) {
+            authorIds.put(user.getUsername(), user.getId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(rows.size());
+        boolean expired = false;
+        for (PostDTO.ImportRow row : rows) {
+            Long authorId = authorIds.get(row.getUsername());
+            if (authorId == null || isBlank(row.getTitle()) || isBlank(row.getContent())) {
+                counter.skipped++;
+                continue;
+            }
+            LocalDateTime created = row.getCreatedAt() != null ? row.getCreatedAt() : now;
+            expired |= postArchiveService.isExpired(created);
+            Timestamp createdAt = Timestamp.valueOf(created);
+            args.add(new Object[]{
+                    row.getTitle(), row.getContent(), Post.excerptOf(row.getContent()),
+                    authorId, createdAt, createdAt});
+        }
+        if (!args.isEmpty()) {
+            boolean move = expired;
+            Integer archived = transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, args);
+                return move ? postArchiveService.moveExpired() : 0;
+            });
+            counter.archived += archived == null ? 0 : archived;
+        }
+        counter.inserted += args.size();
+        counter.batches++;
+        progress.set(counter.snapshot("RUNNING", null));
+    }
+
+    // 등록 전 마지막 게시물 id (두 테이블 중 큰 값) -> 이후 id = 이번 등록분
+    private long lastPostId() {
+        Long hot = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+        Long archived = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post_archive", Long.class);
+        return Math.max(hot == null ? 0L : hot, archived == null ? 0L : archived);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        // skip: 읽었지만 등록할 수 없는 행 (건너뜀으로 집계)
+        void read(Consumer<PostDTO.ImportRow> sink, Runnable skip) throws IOException;
+    }
+
+    // 한 번의 등록 작업 안에서만 쓰는 카운터 (등록 스레드 하나에서만 변경)
+    private static class Counter {
+        private final long startedAt;
+        private long rows;
+        private long inserted;
+        private long skipped;
+        private long batches;
+        private long archived;
+
+        Counter(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        PostDTO.ImportProgress snapshot(String status, String error) {
+            return new PostDTO.ImportProgress(status, rows, inserted, skipped, batches,
+                    System.currentTimeMillis() - startedAt, error);
+        }
+    }
+}
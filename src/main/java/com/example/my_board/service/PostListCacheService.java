@@ -0,0 +1,82 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.ReplicaRoutingDataSource;
+import com.example.my_board.model.dto.PostDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 게시물 목록 본문(post/list-body.html)의 렌더링 결과 캐시
+ * 같은 페이지를 다시 보면 목록 쿼리와 템플릿 평가를 모두 건너뛰고 저장된 HTML을 그대로 사용
+ * - 키: 페이지 커서(after/before/size) + 게시물 전체 버전 -> 작성/수정/삭제 후에는 새 키로 다시 렌더링
+ *   (이전 버전의 항목은 더 이상 조회되지 않으므로 용량 제한/TTL로 밀려남)
+ * - 용량: HTML 바이트 합계 기준 상한 (Caffeine maximumWeight, 오래 안 쓴 항목부터 제거)
+ * - TTL: 본문에 조회수/댓글 수가 들어있으므로 버전이 그대로여도 이 시간 후에는 다시 렌더링
+ * - 사용자마다 다른 내용이 없는 본문만 캐시 (로그인 정보 등은 바깥 템플릿에서)
+ */
+@Service
+public class PostListCacheService {
+    private static final String TEMPLATE = "post/list-body";
+
+    private final PostService postService;
+    private final PostViewCountService postViewCountService;
+    private final PostVersionService postVersionService;
+    private final ITemplateEngine templateEngine;
+    private final Cache<Key, byte[]> rendered;
+
+    private record Key(Long after, Long before, int size, long version) {
+    }
+
+    public PostListCacheService(
+            PostService postService,
+            PostViewCountService postViewCountService,
+            PostVersionService postVersionService,
+            ITemplateEngine templateEngine,
+            @Value("${post.list-cache.max-bytes:16MB}") DataSize maxBytes,
+            @Value("${post.list-cache.ttl:10s}") Duration ttl) {
+        this.postService = postService;
+        this.postViewCountService = postViewCountService;
+        this.postVersionService = postVersionService;
+        this.templateEngine = templateEngine;
+        this.rendered = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .<Key, byte[]>weigher((key, html) -> html.length)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // 목록 본문 HTML (캐시에 없으면 조회 + 렌더링, 같은 키를 동시에 요청하면 한 번만 렌더링)
+    public String render(Long after, Long before, int size, HttpServletRequest request, HttpServletResponse response) {
+        int limit = Math.min(Math.max(size, 1), PostService.MAX_PAGE_SIZE);
+        Key key = new Key(after, before, limit, postVersionService.current().number());
+        byte[] html = rendered.get(key, k -> renderBody(k, request, response));
+        return new String(html, StandardCharsets.UTF_8);
+    }
+
+    private byte[] renderBody(Key key, HttpServletRequest request, HttpServletResponse response) {
+        // 새 버전의 본문은 바뀐 내용이 보여야 하므로 replica 지연과 상관없이 primary에서 조회
+        PostDTO.CursorPage<PostDTO.Summary> page = ReplicaRoutingDataSource.usePrimary(
+                () -> postService.findPage(key.after(), key.before(), key.size()));
+        // 링크(@{...})의 컨텍스트 경로 처리를 위해 현재 요청으로 WebContext 구성
+        WebContext context = new WebContext(JakartaServletWebApplication
+                .buildApplication(request.getServletContext())
+                .buildExchange(request, response));
+        context.setVariable("posts", page.getItems());
+        context.setVariable("page", page);
+        // 아직 DB에 반영되지 않은 조회수 (표시할 때 DB 값에 더함)
+        context.setVariable("pendingViews", postViewCountService.pending(
+                page.getItems().stream().map(PostDTO.Summary::getId).toList()));
+        return templateEngine.process(TEMPLATE, context).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,589 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.ReplicaRoutingDataSource;
+import com.example.my_board.event.PostChangedEvent;
+import com.example.my_board.event.PostsDeletedEvent;
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.entity.Post;
+import com.example.my_board.model.repository.PostArchiveRepository;
+import com.example.my_board.model.repository.PostRepository;
+import com.example.my_board.util.SearchTokenizer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시물 전문 검색 서비스 (메모리 역색인)
+ * LIKE '%검색어%'는 TEXT 컬럼 전체를 스캔하므로, 토큰 -> 게시물 id 목록(역색인)을 메모리에 두고 검색
+ *
+ * - 시작 시: 스냅샷 파일이 있으면 읽고, DB에서 그 이후 게시물만 따라잡음 (없으면 id 순 배치 스캔으로 전체 적재)
+ * - 작성/수정/삭제: PostChangedEvent를 커밋 후(AFTER_COMMIT) 받아 해당 게시물만 갱신
+ *   + Redis Pub/Sub으로 모든 노드에 알림 (다른 노드의 수정/삭제, id 순서와 다르게 커밋된 작성도 반영)
+ * - Pub/Sub은 유실될 수 있으므로 (Redis 장애/재연결) 주기적으로 마지막 색인 id 이후를 따라잡는 것도 유지
+ * - 랭킹: TF-IDF 합산 (제목 토큰 가중치 TITLE_WEIGHT)
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    // 메시지: "{PostChangedEvent.Type}:{id 또는 쉼표로 구분한 id 목록}"
+    private static final String CHANNEL = "post:search:changed";
+
+    private final PostRepository postRepository;
+    private final PostArchiveRepository postArchiveRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int batchSize;
+    private final String snapshotPath;
+    private final boolean rebuildOnStartup;
+
+    // 색인 전체 교체(rebuild) 시에는 새 Index를 만든 뒤 참조만 바꿈
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private volatile boolean ready = false;
+    // rebuild 중에 들어온 변경 이벤트 -> 교체 후 다시 적용
+    private List<PostChangedEvent> pendingDuringRebuild = null;
+    // 재색인은 한 번에 하나만 (시작 시 적재와 관리자 요청이 겹치면 나중 것은 거절)
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public PostSearchService(
+            PostRepository postRepository,
+            PostArchiveRepository postArchiveRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${search.index.batch-size:1000}") int batchSize,
+            @Value("${search.index.snapshot-path:}") String snapshotPath,
+            @Value("${search.index.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.postRepository = postRepository;
+        this.postArchiveRepository = postArchiveRepository;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = batchSize;
+        this.snapshotPath = snapshotPath;
+        this.rebuildOnStartup = rebuildOnStartup;
+        listenerContainer.addMessageListener((message, pattern) ->
+                receive(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+    }
+
+    // === 검색 ===
+    public PostDTO.SearchPage search(String query, int page, int size) {
+        List<String> terms = SearchTokenizer.tokenizeQuery(query);
+        if (terms.isEmpty()) {
+            return new PostDTO.SearchPage(query, List.of(), page, size, 0);
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            int docCount = Math.max(index.docs.size(), 1);
+            for (String term : new LinkedHashSet<>(terms)) {
+                Map<Long, Integer> postings = index.postings.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) docCount / postings.size());
+                postings.forEach((postId, tf) -> scores.merge(postId, tf * idf, Double::sum));
+            }
+
+            // 요청 페이지가 결과 끝을 넘으면 빈 페이지 (큰 page 값에서 int 곱셈이 넘치지 않게 long으로 계산)
+            long offset = (long) Math.max(page, 0) * size;
+            if (offset >= scores.size()) {
+                return new PostDTO.SearchPage(query, List.of(), page, size, scores.size());
+            }
+            // 상위 offset + size 개만 힙으로 추림 -> 전체 정렬 X
+            int limit = (int) Math.min(offset + size, scores.size());
+            Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(order);
+            for (Map.Entry<Long, Double> e : scores.entrySet()) {
+                top.offer(e);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+            ranked.sort(order.reversed());
+
+            List<PostDTO.SearchHit> hits = new ArrayList<>();
+            for (int i = (int) offset; i < ranked.size(); i++) {
+                Map.Entry<Long, Double> e = ranked.get(i);
+                Doc doc = index.docs.get(e.getKey());
+                hits.add(new PostDTO.SearchHit(doc.id, doc.title, doc.excerpt, doc.createdAt, e.getValue()));
+            }
+            return new PostDTO.SearchPage(query, hits, page, size, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === 증분 갱신 (커밋된 변경만 반영) ===
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.COMMENTED) {
+            return; // 색인 대상(제목/본문)은 그대로
+        }
+        applyOrQueue(event);
+        publish(event.type() + ":" + event.postId());
+    }
+
+    // 탈퇴 회원 게시물 일괄 삭제 -> 쓰기 락 한 번에 제거, 메시지 한 번
+    @TransactionalEventListener
+    public void onPostsDeleted(PostsDeletedEvent event) {
+        if (event.postIds().isEmpty()) {
+            return;
+        }
+        removeAll(event.postIds());
+        publish(PostChangedEvent.Type.DELETED + ":"
+                + String.join(",", event.postIds().stream().map(String::valueOf).toList()));
+    }
+
+    // 이 노드는 이미 반영함 (메시지는 자기 자신에게도 오지만 중복 반영은 무해)
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (DataAccessException e) {
+            // 다른 노드: 작성은 catchUp으로 따라잡고, 수정/삭제는 재색인 전까지 이전 내용으로 검색됨
+            log.warn("검색 색인 변경 알림 실패 ({}): {}", message, e.getMessage());
+        }
+    }
+
+    // 다른 노드(또는 이 노드)의 변경 알림
+    private void receive(String message) {
+        try {
+            int separator = message.indexOf(':');
+            PostChangedEvent.Type type = PostChangedEvent.Type.valueOf(message.substring(0, separator));
+            List<Long> ids = new ArrayList<>();
+            for (String id : message.substring(separator + 1).split(",")) {
+                ids.add(Long.valueOf(id));
+            }
+            if (type == PostChangedEvent.Type.DELETED) {
+                removeAll(ids);
+            } else {
+                ids.forEach(id -> applyOrQueue(new PostChangedEvent(id, type)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 변경 알림 처리 실패 ({}): {}", message, e.getMessage());
+        }
+    }
+
+    private void applyOrQueue(PostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        apply(event);
+    }
+
+    private void removeAll(List<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.add(new PostChangedEvent(id, PostChangedEvent.Type.DELETED));
+                }
+                index.remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.COMMENTED) {
+            return; // 색인 대상(제목/본문)은 그대로
+        }
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            lock.writeLock().lock();
+            try {
+                index.remove(event.postId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        // 보관된 게시물(조회수 외에는 바뀌지 않음)이면 post_archive에서
+        // 다른 노드의 커밋 알림으로 읽는 경우도 있으므로 replica 지연과 상관없이 primary에서
+        Optional<PostDTO.Indexable> found = ReplicaRoutingDataSource.usePrimary(() ->
+                postRepository.findIndexableById(event.postId())
+                        .or(() -> postArchiveRepository.findIndexableById(event.postId())));
+        found.ifPresent(source -> {
+            Doc doc = Doc.of(source);
+            lock.writeLock().lock();
+            try {
+                index.put(doc);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 다른 노드에서 작성된 게시물 따라잡기 (마지막 색인 id 이후만 읽으므로 PK 범위 조회)
+    @Scheduled(fixedDelayString = "${search.index.catch-up-interval:10000}")
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        long afterId;
+        lock.readLock().lock();
+        try {
+            afterId = index.maxId;
+        } finally {
+            lock.readLock().unlock();
+        }
+        scan(afterId, doc -> {
+            lock.writeLock().lock();
+            try {
+                index.put(doc);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // === 시작 시 적재 (애플리케이션 기동을 막지 않도록 별도 스레드) ===
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread loader = new Thread(() -> {
+            try {
+                if (!rebuildOnStartup && loadSnapshot()) {
+                    ready = true;
+                    catchUp();
+                } else {
+                    rebuild();
+                }
+            } catch (Exception e) {
+                log.error("검색 색인 초기화 실패", e);
+            }
+        }, "post-search-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // 전체 재색인 (이미 진행 중이면 false)
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("검색 색인 재구성이 이미 진행 중이라 요청을 건너뜀");
+            return false;
+        }
+        try {
+            rebuildIndex();
+            return true;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // 관리자 요청용: 별도 스레드에서 재색인 (요청 스레드를 전체 스캔 동안 잡아두지 않음), 이미 진행 중이면 false
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread rebuilder = new Thread(() -> {
+            try {
+                rebuildIndex();
+            } catch (Exception e) {
+                log.error("검색 색인 재구성 실패", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        }, "post-search-rebuild");
+        rebuilder.setDaemon(true);
+        rebuilder.start();
+        return true;
+    }
+
+    // 새 Index를 만드는 동안에도 기존 색인으로 검색 가능 (rebuilding을 잡은 스레드만 호출)
+    private void rebuildIndex() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        try {
+            scan(0L, fresh::put);
+            // 보관 게시물도 검색 대상 (post 다음에 읽음 -> 읽는 중에 옮겨진 게시물도 빠지지 않음)
+            scanArchive(0L, fresh::put);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        List<PostChangedEvent> pending;
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+            pending = pendingDuringRebuild;
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        pending.forEach(this::apply);
+        ready = true;
+        log.info("검색 색인 재구성 완료: {}건, {}ms", size(), System.currentTimeMillis() - started);
+    }
+
+    private void scan(long afterId, Consumer<Doc> sink) {
+        long cursor = afterId;
+        while (true) {
+            List<PostDTO.Indexable> batch = postRepository.findIndexBatch(cursor, PageRequest.of(0, batchSize));
+            for (PostDTO.Indexable source : batch) {
+                sink.accept(Doc.of(source));
+                cursor = source.getId();
+            }
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 대량 등록에서 바로 보관된 게시물 색인 (afterId 이후만, 나머지 보관 게시물은 post에 있을 때 이미 색인됨)
+    public void catchUpArchive(long afterId) {
+        if (!ready) {
+            return; // 적재/재색인이 끝나면 포함됨
+        }
+        scanArchive(afterId, doc -> {
+            lock.writeLock().lock();
+            try {
+                index.put(doc);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 보관 게시물은 대부분 post에서 옮겨올 뿐이므로 전체 재색인과 대량 등록 후에만 읽음
+    private void scanArchive(long afterId, Consumer<Doc> sink) {
+        long cursor = afterId;
+        while (true) {
+            List<PostDTO.Indexable> batch = postArchiveRepository.findIndexBatch(cursor, PageRequest.of(0, batchSize));
+            for (PostDTO.Indexable source : batch) {
+                sink.accept(Doc.of(source));
+                cursor = source.getId();
+            }
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // === 스냅샷 (빠른 재시작용) ===
+    // 종료 시 자동 저장, 관리자 페이지에서 수동 저장 가능
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        if (ready) {
+            saveSnapshot();
+        }
+    }
+
+    public boolean saveSnapshot() {
+        if (snapshotPath.isBlank()) {
+            return false;
+        }
+        Path target = Paths.get(snapshotPath);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(index.maxId);
+                out.writeInt(index.docs.size());
+                for (Doc doc : index.docs.values()) {
+                    doc.write(out);
+                }
+            }
+            // 쓰는 도중 죽어도 이전 스냅샷이 깨지지 않도록 임시 파일 -> 교체
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("검색 색인 스냅샷 저장: {} ({}건)", target, index.docs.size());
+            return true;
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 저장 실패: {}", e.getMessage());
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean loadSnapshot() {
+        if (snapshotPath.isBlank() || !Files.exists(Paths.get(snapshotPath))) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(Paths.get(snapshotPath)))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("검색 색인 스냅샷 형식이 달라 무시합니다: {}", snapshotPath);
+                return false;
+            }
+            Index loaded = new Index();
+            long maxId = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                loaded.put(Doc.read(in));
+            }
+            loaded.maxId = Math.max(loaded.maxId, maxId);
+            lock.writeLock().lock();
+            try {
+                index = loaded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("검색 색인 스냅샷 적재: {}건", count);
+            return true;
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 적재 실패, 전체 재색인합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // === 색인 자료구조 (lock 안에서만 접근) ===
+    private static class Index {
+        // 토큰 -> (게시물 id -> 가중 빈도)
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private long maxId = 0L;
+
+        void put(Doc doc) {
+            remove(doc.id);
+            docs.put(doc.id, doc);
+            for (int i = 0; i < doc.terms.length; i++) {
+                postings.computeIfAbsent(doc.terms[i], t -> new HashMap<>()).put(doc.id, doc.weights[i]);
+            }
+            maxId = Math.max(maxId, doc.id);
+        }
+
+        void remove(Long id) {
+            Doc old = docs.remove(id);
+            if (old == null) {
+                return;
+            }
+            for (String term : old.terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list != null) {
+                    list.remove(id);
+                    if (list.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+
+    // 색인된 게시물 한 건 (검색 결과 표시에 필요한 값 + 제거용 토큰 목록)
+    private record Doc(Long id, String title, String excerpt, LocalDateTime createdAt,
+                       String[] terms, int[] weights) {
+
+        static Doc of(PostDTO.Indexable source) {
+            Map<String, Integer> tf = new HashMap<>();
+            for (String t : SearchTokenizer.tokenize(source.getTitle())) {
+                tf.merge(t, TITLE_WEIGHT, Integer::sum);
+            }
+            for (String t : SearchTokenizer.tokenize(source.getContent())) {
+                tf.merge(t, 1, Integer::sum);
+            }
+            String excerpt = source.getExcerpt() != null
+                    ? source.getExcerpt()
+                    : Post.excerptOf(source.getContent());
+            return of(source.getId(), source.getTitle(), excerpt, source.getCreatedAt(), tf);
+        }
+
+        static Doc of(Long id, String title, String excerpt, LocalDateTime createdAt, Map<String, Integer> tf) {
+            String[] terms = new String[tf.size()];
+            int[] weights = new int[tf.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> e : tf.entrySet()) {
+                terms[i] = e.getKey();
+                weights[i] = e.getValue();
+                i++;
+            }
+            return new Doc(id, title, excerpt, createdAt, terms, weights);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(id);
+            out.writeUTF(title);
+            out.writeUTF(excerpt == null ? "" : excerpt);
+            out.writeLong(createdAt == null ? -1L
+                    : createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            out.writeInt(terms.length);
+            for (int i = 0; i < terms.length; i++) {
+                out.writeUTF(terms[i]);
+                out.writeInt(weights[i]);
+            }
+        }
+
+        static Doc read(DataInputStream in) throws IOException {
+            long id = in.readLong();
+            String title = in.readUTF();
+            String excerpt = in.readUTF();
+            long createdAtMillis = in.readLong();
+            LocalDateTime createdAt = createdAtMillis < 0 ? null
+                    : LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneId.systemDefault());
+            int count = in.readInt();
+            Map<String, Integer> tf = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                tf.put(in.readUTF(), in.readInt());
+            }
+            return of(id, title, excerpt, createdAt, tf);
+        }
+    }
+}
@@ -1,21 +1,42 @@
 package com.example.my_board.service;
 
+import com.example.my_board.event.PostChangedEvent;
 import com.example.my_board.model.dto.PostDTO;
 import com.example.my_board.model.entity.Post;
+import com.example.my_board.model.entity.PostArchive;
 import com.example.my_board.model.entity.UserAccount;
+import com.example.my_board.model.repository.CommentRepository;
+import com.example.my_board.model.repository.PostArchiveRepository;
 import com.example.my_board.model.repository.PostRepository;
 import com.example.my_board.model.repository.UserAccountRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Service
+@Timed("board.service") // public 메서드마다 실행 시간 (class, method, exception 태그)
 @RequiredArgsConstructor
 public class PostService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
+    // 오래된 게시물 (PostArchiveService가 옮김) -> post에서 모자랄 때만 읽음
+    private final PostArchiveRepository postArchiveRepository;
     private final UserAccountRepository userAccountRepository;
+    private final CommentRepository commentRepository;
+    // 커밋 후 검색 색인 등을 갱신하기 위한 이벤트 발행
+    private final ApplicationEventPublisher eventPublisher;
 
     // 1. create
     @Transactional
@@ -23,25 +44,149 @@ public class PostService {
         UserAccount userAccount = userAccountRepository
                 .findByUsername(dto.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+        if (!userAccount.isEnabled()) {
+            throw new IllegalStateException("탈퇴 처리 중인 사용자입니다");
+        }
         Post post = new Post();
         post.setAuthor(userAccount);
         post.setTitle(dto.getTitle());
         post.setContent(dto.getContent());
-        return postRepository.save(post);
+        post.setExcerpt(Post.excerptOf(dto.getContent())); // 목록용 요약문은 작성 시점에 미리 계산
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId(), PostChangedEvent.Type.CREATED));
+        return saved;
     }
-    // 2-1. findAll
+    // 2-1-1. 커서 페이징 (after: 이 글보다 오래된 글들, before: 이 글보다 최신 글들)
+    // size + 1개를 읽어서 다음 페이지 존재 여부를 판단 (count 쿼리 X)
+    // post_archive의 게시물은 항상 post보다 오래됐으므로 (created_at, id) 순서로 post 뒤에 이어 붙이면 됨
+    // -> post만으로 size + 1개가 채워지면 보관 테이블은 읽지 않음 (대부분의 요청)
+    // 커서 게시물이 그 사이 삭제됐으면 (오래된 링크/북마크) 오류 대신 첫 페이지
     @Transactional(readOnly = true)
-    public List<Post> findAll() {
-        return postRepository.findAll();
+    public PostDTO.CursorPage<PostDTO.Summary> findPage(Long after, Long before, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest fetch = PageRequest.of(0, limit + 1);
+
+        if (before != null) {
+            // 이전 페이지: 커서보다 최신 글을 오름차순으로 읽고 -> 뒤집어서 최신순으로
+            // 오름차순이므로 보관 테이블(더 오래된 쪽)부터, 모자라면 post에서 이어서
+            Optional<Cursor> found = findCursor(before);
+            if (found.isEmpty()) {
+                return findPage(null, null, size);
+            }
+            Cursor cursor = found.get();
+            List<PostDTO.Summary> rows = new ArrayList<>();
+            if (cursor.archived()) {
+                rows.addAll(postArchiveRepository.findNewerThan(cursor.createdAt(), before, fetch));
+            }
+            if (rows.size() <= limit) {
+                PageRequest rest = PageRequest.of(0, limit + 1 - rows.size());
+                rows.addAll(cursor.archived()
+                        ? postRepository.findOldest(rest)
+                        : postRepository.findNewerThan(cursor.createdAt(), before, rest));
+            }
+            boolean hasPrev = rows.size() > limit;
+            if (hasPrev) {
+                rows = rows.subList(0, limit);
+            }
+            Collections.reverse(rows);
+            Long prevCursor = hasPrev ? rows.get(0).getId() : null;
+            // before 커서 자체가 다음 페이지의 시작점이므로 다음 페이지는 항상 존재
+            Long nextCursor = rows.isEmpty() ? null : rows.get(rows.size() - 1).getId();
+            return new PostDTO.CursorPage<>(rows, limit, nextCursor, prevCursor);
+        }
+
+        Cursor cursor = null;
+        if (after != null) {
+            Optional<Cursor> found = findCursor(after);
+            if (found.isEmpty()) {
+                return findPage(null, null, size);
+            }
+            cursor = found.get();
+        }
+        List<PostDTO.Summary> rows = new ArrayList<>();
+        if (cursor == null) {
+            rows.addAll(postRepository.findLatest(fetch));
+        } else if (!cursor.archived()) {
+            rows.addAll(postRepository.findOlderThan(cursor.createdAt(), after, fetch));
+        }
+        if (rows.size() <= limit) {
+            PageRequest rest = PageRequest.of(0, limit + 1 - rows.size());
+            if (cursor != null && cursor.archived()) {
+                rows.addAll(postArchiveRepository.findOlderThan(cursor.createdAt(), after, rest));
+            } else {
+                rows.addAll(postArchiveRepository.findLatest(rest));
+            }
+        }
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+        Long nextCursor = hasNext ? rows.get(rows.size() - 1).getId() : null;
+        // 첫 페이지가 아니면 현재 페이지의 첫 글이 이전 페이지의 커서
+        Long prevCursor = (after != null && !rows.isEmpty()) ? rows.get(0).getId() : null;
+        return new PostDTO.CursorPage<>(rows, limit, nextCursor, prevCursor);
+    }
+
+    // 커서 게시물의 정렬 기준(created_at)과 어느 테이블에 있는지
+    private record Cursor(LocalDateTime createdAt, boolean archived) {
     }
-    // 2-2. findOne (byId...)
+
+    private Optional<Cursor> findCursor(Long id) {
+        Optional<LocalDateTime> hot = postRepository.findCreatedAtById(id);
+        if (hot.isPresent()) {
+            return Optional.of(new Cursor(hot.get(), false));
+        }
+        return postArchiveRepository.findCreatedAtById(id)
+                .map(createdAt -> new Cursor(createdAt, true));
+    }
+
+    // 2-3. 상세 (DTO로 변환해서 반환 -> 캐시에 저장 가능, 렌더링 중 지연 로딩 X)
     @Transactional(readOnly = true)
-    public Post findById(Long id) {
-        return postRepository.findById(id)
+    public PostDTO.Detail findDetail(Long id) {
+        Optional<Post> post = postRepository.findWithAuthorById(id);
+        if (post.isPresent()) {
+            return PostDTO.Detail.from(post.get());
+        }
+        return postArchiveRepository.findWithAuthorById(id)
+                .map(PostDTO.Detail::from)
                 .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
     }
 
     // -------------------------
-    // 3. update
-    // 4. delete
-}
\ No newline at end of file
+    // 3. update (작성자만, 보관된 게시물은 수정 X)
+    @Transactional
+    public Post updatePost(Long id, PostDTO.Request dto, String username) {
+        Post post = postRepository.findWithAuthorById(id).orElseThrow(() -> postArchiveRepository.existsById(id)
+                ? new IllegalStateException("보관된 게시물은 수정할 수 없습니다")
+                : new IllegalArgumentException("게시물 없음"));
+        checkOwner(post.getAuthor(), username, false);
+        post.setTitle(dto.getTitle());
+        post.setContent(dto.getContent());
+        post.setExcerpt(Post.excerptOf(dto.getContent()));
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId(), PostChangedEvent.Type.UPDATED));
+        return post; // 변경 감지(dirty checking)로 커밋 시 UPDATE
+    }
+
+    // 4. delete (작성자 또는 관리자, 보관된 게시물 포함, 댓글도 함께)
+    @Transactional
+    public void deletePost(Long id, String username, boolean isAdmin) {
+        Optional<Post> post = postRepository.findWithAuthorById(id);
+        if (post.isPresent()) {
+            checkOwner(post.get().getAuthor(), username, isAdmin);
+            postRepository.delete(post.get());
+        } else {
+            PostArchive archived = postArchiveRepository.findWithAuthorById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
+            checkOwner(archived.getAuthor(), username, isAdmin);
+            postArchiveRepository.delete(archived);
+        }
+        commentRepository.deleteByPostId(id);
+        eventPublisher.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.DELETED));
+    }
+
+    private void checkOwner(UserAccount author, String username, boolean isAdmin) {
+        if (!isAdmin && !author.getUsername().equals(username)) {
+            throw new AccessDeniedException("작성자만 수정/삭제할 수 있습니다");
+        }
+    }
+}
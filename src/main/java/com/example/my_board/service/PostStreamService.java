@@ -0,0 +1,326 @@
+package com.example.my_board.service;
+
+import com.example.my_board.event.PostChangedEvent;
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 글 알림 (Server-Sent Events, /posts/stream)
+ * 목록을 계속 새로고침하는 대신 새 글 요약만 받아서 화면에 표시
+ * - 연결은 비동기 서블릿(AsyncContext)으로 유지 -> 대기 중인 연결은 요청 스레드를 차지하지 않음
+ * - 쓰기는 논블로킹(WriteListener) -> 느린 연결 때문에 전송 스레드가 막히지 않음
+ * - 새 글 커밋 후 Redis Pub/Sub(post:created)으로 모든 노드에 전달, 각 노드가 자기 구독자에게 전송
+ * - 구독자마다 크기가 정해진 대기열: 발행 쪽은 넣기만 하고(막히지 않음) 전송 스레드가 꺼내서 보냄
+ *   대기열이 가득 찬 느린 구독자는 연결을 끊음 (EventSource가 알아서 다시 연결)
+ * - 주기적인 heartbeat로 끊어진 연결 정리 + 프록시 유휴 타임아웃 방지
+ */
+@Slf4j
+@Service
+public class PostStreamService {
+    private static final String CHANNEL = "post:created";
+    private static final Message HEARTBEAT = new Message(null, "ping");
+
+    private final PostRepository postRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxClients;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final ExecutorService sender;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    // 상한 확인용 연결 수 (구독 시 먼저 예약, 연결이 끝나면 반납)
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter dropped;
+
+    // 전송할 이벤트 (name이 null이면 주석 줄 -> heartbeat)
+    private record Message(String name, String data) {
+    }
+
+    public PostStreamService(
+            PostRepository postRepository,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${post.stream.max-clients:20000}") int maxClients,
+            @Value("${post.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${post.stream.timeout:30m}") Duration timeout,
+            @Value("${post.stream.sender-threads:4}") int senderThreads) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxClients = maxClients;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        AtomicInteger sequence = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "post-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        new ExecutorServiceMetrics(sender, "post-stream", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("board.stream.clients", connections, AtomicInteger::get).register(meterRegistry);
+        this.dropped = Counter.builder("board.stream.dropped").register(meterRegistry);
+        listenerContainer.addMessageListener((message, pattern) ->
+                broadcast(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+    }
+
+    // 구독 (연결 수가 상한이면 IllegalStateException)
+    // 응답은 비동기 + 논블로킹 쓰기(WriteListener)로 유지 -> 느린 연결에 쓰는 동안 전송 스레드가 막히지 않음
+    public void subscribe(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!reserve()) {
+            throw new IllegalStateException("알림 연결 수 초과");
+        }
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        Client client = null;
+        try {
+            AsyncContext async = request.startAsync(request, response);
+            async.setTimeout(timeout.toMillis());
+            client = new Client(async, response.getOutputStream());
+            async.addListener(client);
+            clients.add(client);
+            client.out.setWriteListener(client); // 쓸 수 있게 되면 onWritePossible
+        } catch (IOException | RuntimeException e) {
+            if (client != null) {
+                client.close();
+            } else {
+                connections.decrementAndGet();
+            }
+            throw e;
+        }
+        client.offer(HEARTBEAT); // 응답 헤더를 바로 보내서 연결 확립
+    }
+
+    // 연결 수 확인과 증가를 한 번에 (동시에 구독해도 상한을 넘지 않음)
+    private boolean reserve() {
+        while (true) {
+            int current = connections.get();
+            if (current >= maxClients) {
+                return false;
+            }
+            if (connections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 새 글 커밋 후 요약을 모든 노드에 발행
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.CREATED) {
+            return;
+        }
+        postRepository.findSummaryById(event.postId()).ifPresent(summary -> {
+            try {
+                String json = objectMapper.writeValueAsString(PostDTO.StreamItem.from(summary));
+                redisTemplate.convertAndSend(CHANNEL, json);
+            } catch (JsonProcessingException | DataAccessException e) {
+                // 알림은 부가 기능 -> 실패해도 글 작성에는 영향 없음 (목록 새로고침으로 보임)
+                log.warn("새 글 알림 발행 실패 (id={}): {}", event.postId(), e.getMessage());
+            }
+        });
+    }
+
+    // Redis에서 받은 새 글 -> 이 노드의 구독자 전체에게 (대기열에 넣기만 함)
+    private void broadcast(String json) {
+        Message message = new Message("post", json);
+        clients.forEach(client -> client.offer(message));
+    }
+
+    @Scheduled(fixedDelayString = "${post.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        clients.forEach(client -> client.offer(HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.forEach(Client::drop);
+        sender.shutdown();
+    }
+
+    /**
+     * 구독자 한 명
+     * 쓰기는 논블로킹: isReady()가 true일 때만 쓰고, false면 컨테이너가 남은 데이터를 보낸 뒤 onWritePossible로 다시 깨움
+     * -> 쓰기가 막히지 않으므로 전송 스레드 수가 적어도 느린 연결 하나가 다른 구독자를 막지 않음
+     * 출력 스트림/AsyncContext 접근은 synchronized (쓰기가 막히지 않으므로 오래 잡지 않음)
+     * 대기열이 가득 차면 (= 오래 못 보낸 연결) 기존처럼 연결을 끊음
+     */
+    private final class Client implements WriteListener, AsyncListener {
+        private final AsyncContext async;
+        private final ServletOutputStream out;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean closed;
+        // isReady()가 false -> onWritePossible을 기다리는 중 (그동안 다시 drain을 예약하지 않음)
+        private volatile boolean waiting;
+        private boolean completed;
+
+        Client(AsyncContext async, ServletOutputStream out) {
+            this.async = async;
+            this.out = out;
+        }
+
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                // 느린 구독자: 기다리지 않고 연결을 끊음
+                dropped.increment();
+                drop();
+                return;
+            }
+            schedule();
+        }
+
+        // 연결 종료 요청 (실제 complete는 전송 스레드에서)
+        void drop() {
+            close();
+            schedule();
+        }
+
+        // 목록에서 제거 + 연결 수 반납 (한 번만)
+        void close() {
+            closed = true;
+            clients.remove(this);
+            if (released.compareAndSet(false, true)) {
+                connections.decrementAndGet();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false); // 종료 중
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                synchronized (this) {
+                    while (!closed) {
+                        waiting = true; // isReady() 전에 표시 -> 그 사이 온 onWritePossible을 놓치지 않음
+                        if (!out.isReady()) {
+                            break;
+                        }
+                        waiting = false;
+                        Message message = queue.poll();
+                        if (message == null) {
+                            out.flush();
+                            break;
+                        }
+                        out.write(encode(message));
+                    }
+                    if (closed) {
+                        queue.clear();
+                        complete();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 끊었거나 응답이 끝난 상태
+                close();
+                complete();
+            } finally {
+                scheduled.set(false);
+                // 전송하는 동안 새로 들어온 메시지 처리 (쓰기 대기 중이면 onWritePossible에서)
+                if (!closed && !waiting && !queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private synchronized void complete() {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            try {
+                async.complete();
+            } catch (IllegalStateException e) {
+                // 이미 끝난 요청
+            }
+        }
+
+        // === WriteListener (컨테이너 스레드) ===
+        @Override
+        public void onWritePossible() {
+            waiting = false;
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        // === AsyncListener (컨테이너 스레드) ===
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+            complete(); // 타임아웃 시 직접 끝내야 오류 응답으로 바뀌지 않음 (브라우저가 다시 연결)
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+            complete();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        // SSE 형식: 주석 줄(heartbeat) 또는 event/data 줄, 빈 줄로 끝
+        private byte[] encode(Message message) {
+            String frame = message.name() == null
+                    ? ": " + message.data() + "\n\n"
+                    : "event: " + message.name() + "\ndata: " + message.data() + "\n\n";
+            return frame.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
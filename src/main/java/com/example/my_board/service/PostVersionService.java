@@ -0,0 +1,94 @@
+package com.example.my_board.service;
+
+import com.example.my_board.event.PostChangedEvent;
+import com.example.my_board.event.PostsDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시물 전체 버전 (작성/수정/삭제/대량 등록마다 1씩 증가)
+ * 목록 페이지의 ETag 등 "게시물이 하나라도 바뀌었는지"를 DB 조회 없이 판단할 때 사용
+ * - 댓글 작성/삭제(COMMENTED)는 증가시키지 않음: 목록의 댓글 수는 조회수처럼 목록 본문 캐시 TTL만큼 늦게 보여도 됨
+ *   (댓글마다 증가시키면 목록 캐시와 ETag가 계속 무효화됨)
+ * - 번호는 Redis INCR(post:version)로 모든 노드가 공유, 바뀌면 Pub/Sub으로 알림
+ * - 각 노드는 마지막 번호를 메모리에 들고 있으므로 조회는 필드 읽기 한 번
+ */
+@Slf4j
+@Service
+public class PostVersionService {
+    private static final String KEY = "post:version";
+    private static final String CHANNEL = "post:version";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AtomicReference<Version> current;
+
+    /**
+     * @param number    버전 번호
+     * @param changedAt 이 노드가 번호 변경을 알게 된 시각 (epoch ms, Last-Modified 용)
+     */
+    public record Version(long number, long changedAt) {
+    }
+
+    public PostVersionService(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.current = new AtomicReference<>(new Version(readShared(), System.currentTimeMillis()));
+        listenerContainer.addMessageListener((message, pattern) ->
+                apply(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8))), new ChannelTopic(CHANNEL));
+    }
+
+    public Version current() {
+        return current.get();
+    }
+
+    // 게시물 변경 커밋 후 버전 증가 (댓글 수만 바뀐 경우 제외)
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.COMMENTED) {
+            return;
+        }
+        bump();
+    }
+
+    // 일괄 삭제는 배치마다 한 번만 증가
+    @TransactionalEventListener
+    public void onPostsDeleted(PostsDeletedEvent event) {
+        bump();
+    }
+
+    public void bump() {
+        try {
+            Long next = redisTemplate.opsForValue().increment(KEY);
+            if (next != null) {
+                apply(next);
+                redisTemplate.convertAndSend(CHANNEL, String.valueOf(next));
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("게시물 버전 증가 실패, 이 노드에서만 증가: {}", e.getMessage());
+        }
+        // Redis 장애: 이 노드만이라도 바뀐 것으로 처리 (304로 예전 페이지를 돌려주지 않도록)
+        current.updateAndGet(v -> new Version(v.number() + 1, System.currentTimeMillis()));
+    }
+
+    private void apply(long number) {
+        current.updateAndGet(v -> number > v.number() ? new Version(number, System.currentTimeMillis()) : v);
+    }
+
+    private long readShared() {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (DataAccessException e) {
+            log.warn("게시물 버전 조회 실패, 0부터 시작: {}", e.getMessage());
+            return 0L;
+        }
+    }
+}
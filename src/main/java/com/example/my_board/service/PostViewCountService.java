@@ -0,0 +1,188 @@
+package com.example.my_board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수 (write-behind)
+ * 조회마다 UPDATE를 날리면 인기 게시물 한 행에 락 경합이 몰리므로
+ * - 조회: 메모리의 LongAdder(내부적으로 스트라이프된 카운터)만 증가 -> 락/DB 접근 없음
+ * - 반영: 주기적으로(post.view-count.flush-interval) 모인 증가분을 id 순으로 정렬해서 한 번의 JDBC 배치로 UPDATE
+ * - 반영 실패: 증가분을 다시 돌려놓고 다음 주기에 재시도
+ * - 한 주기 동안 조회가 없던 카운터는 맵에서 빼고 retired 표시 -> 그 카운터를 이미 잡고 있던 조회 스레드는
+ *   증가 후 retired를 보고 남은 값을 새 카운터로 옮김 (sumThenReset은 셀마다 원자적이라 반영 스레드와 나눠 가져도 중복/유실 없음)
+ * - post에 없는(0건 갱신) 게시물만 post_archive에 한 번 더 배치 UPDATE (보관된 오래된 게시물)
+ * - 표시: 상세 캐시의 값은 최대 캐시 TTL만큼 오래됐고 반영 때마다 pending이 0으로 돌아가므로
+ *   반영 직후 DB 값을 다시 읽어 두고 max(캐시 값, 읽어 둔 값) + 반영 중 + pending으로 표시 (줄어들지 않음)
+ *
+ * 유실 범위: 정상 종료 시에는 @PreDestroy에서 마지막으로 반영하므로 유실 없음.
+ * 프로세스가 강제 종료(kill -9, OOM 등)되면 마지막 반영 이후의 증가분(노드당 최대 flush-interval 동안의 조회수)만 유실됨.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+    private static final String UPDATE_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+    private static final String UPDATE_ARCHIVE_SQL = "UPDATE post_archive SET view_count = view_count + ? WHERE id = ?";
+    private static final String SELECT_SQL = "SELECT id, view_count FROM %s WHERE id IN (%s)";
+    private static final int SELECT_CHUNK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시물 id -> 아직 DB에 반영되지 않은 조회수
+    private final ConcurrentHashMap<Long, Counter> pending = new ConcurrentHashMap<>();
+
+    private static final class Counter {
+        final LongAdder adder = new LongAdder();
+        // 맵에서 제거된 뒤 true (volatile: 증가 -> 확인 순서와 표시 -> 회수 순서가 어긋나지 않게)
+        volatile boolean retired;
+    }
+
+    // 반영하면서 다시 읽은 DB 값 (상세 캐시 TTL 동안만 의미 있음)
+    private final Cache<Long, Long> persisted = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    // pending에서 꺼냈지만 아직 persisted에 들어가지 않은 증가분
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        add(postId, 1);
+    }
+
+    // 제거된 카운터에 더했으면 반영 스레드가 아직 가져가지 않은 몫을 새 카운터로 옮김
+    // (retired를 못 봤다면 반영 스레드의 회수보다 먼저 더해진 것이므로 그쪽에서 처리됨)
+    private void add(Long postId, long delta) {
+        while (delta > 0) {
+            Counter counter = pending.computeIfAbsent(postId, id -> new Counter());
+            counter.adder.add(delta);
+            if (!counter.retired) {
+                return;
+            }
+            delta = counter.adder.sumThenReset();
+        }
+    }
+
+    // 화면 표시용: DB 값 + 아직 반영되지 않은 증가분
+    public long pending(Long postId) {
+        Counter counter = pending.get(postId);
+        return counter == null ? 0L : counter.adder.sum();
+    }
+
+    // 상세 화면 표시용: cached = 캐시된 상세의 조회수
+    // inFlight를 먼저 읽음 -> 반영 스레드가 persisted 갱신 후 inFlight를 지우므로 잠깐 더 크게 보일 수는 있어도 작게 보이지는 않음
+    public long viewCount(Long postId, long cached) {
+        long flushing = inFlight.getOrDefault(postId, 0L);
+        Long known = persisted.getIfPresent(postId);
+        return Math.max(cached, known == null ? 0L : known) + flushing + pending(postId);
+    }
+
+    public Map<Long, Long> pending(Collection<Long> postIds) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Long id : postIds) {
+            result.put(id, pending(id));
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        // 증가분 꺼내기: sumThenReset은 셀마다 원자적으로 0과 교환하므로, 동시에 들어온 증가는 이번 또는 다음 반영에 포함됨
+        SortedMap<Long, Long> deltas = new TreeMap<>(); // id 순 정렬 -> 여러 노드가 동시에 반영해도 행 락 순서가 같아 교착 방지
+        for (Map.Entry<Long, Counter> entry : pending.entrySet()) {
+            Counter counter = entry.getValue();
+            long delta = counter.adder.sumThenReset();
+            if (delta > 0) {
+                inFlight.put(entry.getKey(), delta);
+                deltas.put(entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), counter)) {
+                // 한 주기 동안 조회가 없던 게시물은 맵에서 제거 (메모리 회수)
+                // 표시 후 남은 값 = 제거 직전에 카운터를 잡은 조회 -> 이번 반영에 포함 (표시 이후의 증가는 조회 스레드가 옮김)
+                counter.retired = true;
+                long late = counter.adder.sumThenReset();
+                if (late > 0) {
+                    inFlight.put(entry.getKey(), late);
+                    deltas.put(entry.getKey(), late);
+                }
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> batch.add(new Object[]{delta, id}));
+        try {
+            List<Object[]> missing = update(UPDATE_SQL, batch);
+            readBack("post", batch, missing);
+            if (!missing.isEmpty()) {
+                // post에 없는 게시물 -> 보관 테이블 (여기에도 없으면 삭제된 게시물이므로 버림)
+                List<Object[]> deleted = update(UPDATE_ARCHIVE_SQL, missing);
+                readBack("post_archive", missing, deleted);
+            }
+        } finally {
+            deltas.keySet().forEach(inFlight::remove);
+        }
+    }
+
+    // 반영된 행의 현재 값 (다른 노드의 반영분 포함)을 표시용으로 저장
+    // 트랜잭션 밖 JdbcTemplate -> primary에서 읽음, 실패해도 표시만 잠시 캐시 값 기준이 됨
+    private void readBack(String table, List<Object[]> batch, List<Object[]> missing) {
+        Set<Object[]> skipped = Collections.newSetFromMap(new IdentityHashMap<>());
+        skipped.addAll(missing);
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Object[] row : batch) {
+            if (!skipped.contains(row)) {
+                ids.add((Long) row[1]);
+            }
+        }
+        try {
+            for (int from = 0; from < ids.size(); from += SELECT_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + SELECT_CHUNK, ids.size()));
+                jdbcTemplate.query(SELECT_SQL.formatted(table, String.join(",", Collections.nCopies(chunk.size(), "?"))),
+                        rs -> {
+                            persisted.put(rs.getLong("id"), rs.getLong("view_count"));
+                        }, chunk.toArray());
+            }
+        } catch (RuntimeException e) {
+            log.warn("반영된 조회수 다시 읽기 실패 ({}건): {}", ids.size(), e.getMessage());
+        }
+    }
+
+    // 배치 UPDATE -> 0건 갱신된 행 반환, 실패하면 증가분을 되돌려 놓음
+    private List<Object[]> update(String sql, List<Object[]> batch) {
+        List<Object[]> missing = new ArrayList<>();
+        try {
+            int[] updated = jdbcTemplate.batchUpdate(sql, batch);
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    missing.add(batch.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            // 반영 실패 -> 다음 주기에 다시 시도하도록 되돌려 놓음
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+            log.warn("조회수 반영 실패 ({}건), 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+        }
+        return missing;
+    }
+
+    // 정상 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
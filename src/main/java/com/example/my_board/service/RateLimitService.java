@@ -0,0 +1,107 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 수 제한 (token bucket과 같은 결과를 내는 GCRA 방식)
+ * 버킷마다 "다음 요청이 정상 간격으로 도착할 시각(TAT)" 하나만 저장
+ * - 요청 하나 = 간격(period / limit)만큼 TAT를 뒤로 미룸
+ * - TAT가 지금보다 (limit - 1) 간격 넘게 앞서 있으면 거절 -> 한 번에 최대 limit개까지 허용
+ * LOCAL: 값 하나(AtomicLong)를 CAS로 갱신 -> 락 없음, 버킷 맵은 크기 제한 + 유휴 키 제거 (Caffeine)
+ * REDIS: 같은 계산을 Lua 스크립트로 원자적으로 실행 (시각은 Redis 서버 시각 -> 노드 간 시계 차이 무관)
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+    private static final String KEY_PREFIX = "ratelimit:";
+    // KEYS[1] = 버킷 키, ARGV[1] = 간격(ms), ARGV[2] = 허용 오차(ms) -> 기다려야 할 시간(ms), 0이면 허용
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local wait = tat - tolerance - now
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], tat + interval, 'PX', tat + interval - now)
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    // 정책:키 -> TAT (System.nanoTime 기준)
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimitService(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    /**
+     * 요청 하나 허용 여부
+     *
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(RateLimitProperties.Policy policy, String key) {
+        String bucket = policy.getName() + ":" + key;
+        if (properties.getMode() == RateLimitProperties.Mode.REDIS) {
+            try {
+                Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + bucket),
+                        String.valueOf(Math.max(1, intervalNanos(policy) / 1_000_000)),
+                        String.valueOf(toleranceNanos(policy) / 1_000_000));
+                return wait == null ? 0 : wait;
+            } catch (DataAccessException e) {
+                // 제한 때문에 서비스 전체를 멈추지 않음 -> 이 노드 기준으로만 셈
+                log.warn("요청 수 제한(Redis) 실패, 노드별 제한으로 처리: {}", e.getMessage());
+            }
+        }
+        return tryAcquireLocal(policy, bucket);
+    }
+
+    private long tryAcquireLocal(RateLimitProperties.Policy policy, String bucket) {
+        long interval = intervalNanos(policy);
+        long tolerance = toleranceNanos(policy);
+        AtomicLong tat = buckets.get(bucket, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            // 처음이거나 오래 쉬었으면 지금부터 (nanoTime은 음수일 수 있으므로 차이로 비교)
+            long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long wait = start - tolerance - now;
+            if (wait > 0) {
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait));
+            }
+            if (tat.compareAndSet(current, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    private static long intervalNanos(RateLimitProperties.Policy policy) {
+        return policy.getPeriod().toNanos() / Math.max(1, policy.getLimit());
+    }
+
+    private static long toleranceNanos(RateLimitProperties.Policy policy) {
+        return intervalNanos(policy) * (Math.max(1, policy.getLimit()) - 1);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.my_board.service;
+
+import com.example.my_board.event.UserDeletedEvent;
+import com.example.my_board.model.repository.RefreshTokenStore;
+import com.example.my_board.util.JwtUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Access Token 재발급 (refresh 토큰 교체 포함)
+ * 페이지 하나가 여러 요청을 동시에 보내면 모두 같은 만료 토큰 + 같은 refresh 토큰을 들고 옴
+ * -> 같은 refresh 토큰의 재발급은 하나로 합침 (single-flight):
+ *    처음 온 요청만 Redis 교체 + 토큰 발급, 나머지는 그 결과를 그대로 받음
+ * -> 결과는 grace 동안 보관: 교체 직후 예전 refresh 토큰으로 뒤늦게 온 요청도 같은 새 토큰을 받음
+ *    (이미 교체된 토큰이라고 로그아웃시키지 않음)
+ *    같은 노드: 메모리(results), 다른 노드: 교체 스크립트가 Redis에 함께 보관한 결과
+ *    Redis에는 예전 refresh 토큰에서 만든 키로 AES-GCM 암호화해서 저장 (토큰 원문이 Redis에 남지 않음)
+ */
+@Service
+public class TokenRefreshService {
+    private static final long WAIT_SECONDS = 5;
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    // 제출된 refresh 토큰 해시 -> 재발급 결과 (진행 중이면 아직 완료되지 않은 future)
+    private final Cache<String, CompletableFuture<Result>> results;
+    private final Duration grace;
+
+    public TokenRefreshService(
+            JwtUtil jwtUtil,
+            RefreshTokenStore refreshTokenStore,
+            TokenRevocationService tokenRevocationService,
+            @Value("${jwt.refresh.grace:10s}") Duration grace) {
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenRevocationService = tokenRevocationService;
+        this.grace = grace;
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(grace)
+                .build();
+    }
+
+    // 재발급 결과: 새 access/refresh 토큰
+    public record Result(String username, String accessToken, String refreshToken) {
+    }
+
+    // 로그인 시 발급한 refresh 토큰 저장
+    public void store(String username, String refreshToken) {
+        refreshTokenStore.save(username, refreshToken, refreshTtl());
+    }
+
+    // 로그아웃: 저장된 refresh 토큰 삭제 -> 더 이상 재발급 불가
+    public void discard(String username) {
+        refreshTokenStore.delete(username);
+    }
+
+    // 만료/위조/폐기/이미 교체된 refresh 토큰이면 예외
+    public Result refresh(String refreshToken) {
+        String key = JwtUtil.hash(refreshToken);
+        CompletableFuture<Result> created = new CompletableFuture<>();
+        CompletableFuture<Result> inflight = results.asMap().putIfAbsent(key, created);
+        if (inflight != null) {
+            return await(inflight);
+        }
+        try {
+            Result result = rotate(refreshToken);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            // 실패는 보관하지 않음 (기다리던 요청들에는 같은 예외 전달)
+            results.invalidate(key);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Result rotate(String refreshToken) {
+        Claims claims = jwtUtil.getClaims(refreshToken); // 만료/위조 -> JwtException
+        if (tokenRevocationService.isRevoked(claims)) {
+            throw new IllegalArgumentException("폐기된 Refresh Token");
+        }
+        String username = claims.getSubject();
+        // 예전 형식("[ROLE_USER]")의 토큰이어도 새 토큰에는 정규화된 role 클레임을 넣음
+        String role = JwtUtil.toRoleClaim(jwtUtil.getAuthorities(claims));
+        String accessToken = jwtUtil.generateToken(username, role, false);
+        String nextRefreshToken = jwtUtil.generateToken(username, role, true);
+        String sealed = seal(refreshToken, accessToken, nextRefreshToken);
+        String stored = refreshTokenStore.rotate(username, refreshToken, nextRefreshToken, refreshTtl(), sealed, grace);
+        if (stored == null) {
+            throw new IllegalArgumentException("Refresh Token 불일치");
+        }
+        if (stored.equals(sealed)) {
+            return new Result(username, accessToken, nextRefreshToken);
+        }
+        // grace 안에 다른 노드가 먼저 교체함 -> 그 결과를 그대로 (방금 만든 토큰은 버림)
+        return unseal(username, refreshToken, stored);
+    }
+
+    // 교체 결과 암호화: 키 = SHA-256("grace:" + 예전 refresh 토큰) -> 저장소의 해시(SHA-256(토큰))와 다른 값
+    private static String seal(String presented, String accessToken, String refreshToken) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, graceKey(presented), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal((accessToken + "\n" + refreshToken).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(
+                    ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Result unseal(String username, String presented, String sealed) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(sealed);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, graceKey(presented), new GCMParameterSpec(TAG_BITS, bytes, 0, IV_LENGTH));
+            String[] tokens = new String(cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH),
+                    StandardCharsets.UTF_8).split("\n", 2);
+            return new Result(username, tokens[0], tokens[1]);
+        } catch (GeneralSecurityException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Refresh Token 불일치");
+        }
+    }
+
+    private static SecretKeySpec graceKey(String presented) throws GeneralSecurityException {
+        byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(("grace:" + presented).getBytes(StandardCharsets.UTF_8));
+        return new SecretKeySpec(digest, "AES");
+    }
+
+    private static Result await(CompletableFuture<Result> inflight) {
+        try {
+            return inflight.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("토큰 재발급 대기 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Duration refreshTtl() {
+        return Duration.ofMillis(jwtUtil.getRefreshExpiry());
+    }
+
+    // 탈퇴한 회원의 refresh 토큰 삭제 -> 더 이상 재발급 불가
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        refreshTokenStore.delete(event.username());
+    }
+}
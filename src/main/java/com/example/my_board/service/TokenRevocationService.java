@@ -0,0 +1,198 @@
+package com.example.my_board.service;
+
+import com.example.my_board.event.UserDeletedEvent;
+import com.example.my_board.util.BloomFilter;
+import com.example.my_board.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 폐기 (만료 전에 토큰을 무효화)
+ * - 토큰 하나: revoked:jti:{jti} (TTL = 토큰 남은 유효시간) -> 로그아웃
+ * - 사용자 전체: revoked:user:{username} = 폐기 시각(초), 그 전에 발급된 토큰은 모두 무효 -> 회원 삭제
+ *
+ * 요청마다 Redis를 조회하지 않도록 각 노드에 사본을 둠
+ * - jti: 로컬 Bloom 필터 -> "없음"이면 바로 통과 (대부분의 요청), "있을 수도"일 때만 Redis 확인
+ * - 사용자: 개수가 적으므로 정확한 맵 (Redis 조회 없음)
+ * - 다른 노드에서 폐기하면 Pub/Sub으로 전달, 주기적으로 Redis 기준으로 다시 만듦 (만료된 항목 정리, 놓친 메시지 보정)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+    private static final String JTI_PREFIX = "revoked:jti:";
+    private static final String USER_PREFIX = "revoked:user:";
+    private static final String CHANNEL = "auth:revoked";
+
+    private final JwtUtil jwtUtil;
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter revokedJtis;
+    // 재구성 중에 들어온 폐기는 새 필터에도 반영
+    private volatile BloomFilter rebuilding;
+    // username -> 이 시각(epoch 초) 이전에 발급된 토큰은 무효
+    private volatile Map<String, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(
+            JwtUtil jwtUtil,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedRevocations,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jwtUtil = jwtUtil;
+        this.redisTemplate = redisTemplate;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedJtis = new BloomFilter(expectedRevocations, falsePositiveRate);
+        // 메시지: "jti:{jti}" 또는 "user:{epoch초}:{username}"
+        listenerContainer.addMessageListener((message, pattern) ->
+                apply(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+    }
+
+    // 검증이 끝난 토큰의 클레임 -> 폐기 여부
+    public boolean isRevoked(Claims claims) {
+        Long since = revokedUsers.get(claims.getSubject());
+        if (since != null) {
+            Date issuedAt = claims.getIssuedAt();
+            if (issuedAt == null || issuedAt.getTime() / 1000 <= since) {
+                return true;
+            }
+        }
+        String jti = claims.getId();
+        if (jti == null || !revokedJtis.mightContain(jti)) {
+            return false;
+        }
+        // Bloom 필터 양성 (실제 폐기 또는 오탐) -> Redis로 확인
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(JTI_PREFIX + jti));
+        } catch (DataAccessException e) {
+            // 확인할 수 없으면 폐기된 것으로 처리 (오탐이면 다시 로그인하면 됨)
+            log.warn("토큰 폐기 여부 확인 실패 (jti={}): {}", jti, e.getMessage());
+            return true;
+        }
+    }
+
+    // 토큰 하나 폐기 (이미 만료/위조된 토큰이면 할 일 없음), 폐기한 토큰의 클레임 반환
+    public Claims revoke(String token) {
+        if (token == null) {
+            return null;
+        }
+        Claims claims;
+        try {
+            claims = jwtUtil.getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        String jti = claims.getId();
+        if (jti == null || claims.getExpiration() == null) {
+            // jti가 없는 예전 토큰 -> 사용자 단위로 폐기
+            revokeUser(claims.getSubject());
+            return claims;
+        }
+        long ttlMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+        if (ttlMillis > 0) {
+            redisTemplate.opsForValue().set(JTI_PREFIX + jti, "1", Duration.ofMillis(ttlMillis));
+            publish("jti:" + jti);
+        }
+        return claims;
+    }
+
+    // 사용자의 지금까지 발급된 토큰 전부 폐기 (refresh 토큰 수명 동안 유지)
+    public void revokeUser(String username) {
+        long since = System.currentTimeMillis() / 1000;
+        redisTemplate.opsForValue().set(USER_PREFIX + username, String.valueOf(since),
+                Duration.ofMillis(jwtUtil.getRefreshExpiry()));
+        publish("user:" + since + ":" + username);
+    }
+
+    // 강제 탈퇴된 회원의 토큰은 만료 전이라도 바로 거부
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        revokeUser(event.username());
+    }
+
+    private void publish(String message) {
+        apply(message); // 이 노드는 바로 반영 (메시지는 자기 자신에게도 오지만 중복 반영은 무해)
+        redisTemplate.convertAndSend(CHANNEL, message);
+    }
+
+    private void apply(String message) {
+        if (message.startsWith("jti:")) {
+            String jti = message.substring("jti:".length());
+            revokedJtis.put(jti);
+            BloomFilter next = rebuilding;
+            if (next != null) {
+                next.put(jti);
+            }
+        } else if (message.startsWith("user:")) {
+            String[] parts = message.split(":", 3);
+            revokedUsers.merge(parts[2], Long.parseLong(parts[1]), Math::max);
+        }
+    }
+
+    // Redis 기준으로 로컬 사본 재구성 (시작 시 + 주기적으로)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        BloomFilter next = new BloomFilter(expectedRevocations, falsePositiveRate);
+        rebuilding = next;
+        try {
+            long jtis = 0;
+            try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(JTI_PREFIX + "*").count(1000).build())) {
+                while (keys.hasNext()) {
+                    next.put(keys.next().substring(JTI_PREFIX.length()));
+                    jtis++;
+                }
+            }
+            Map<String, Long> users = new ConcurrentHashMap<>();
+            try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(USER_PREFIX + "*").count(1000).build())) {
+                while (keys.hasNext()) {
+                    String key = keys.next();
+                    String since = redisTemplate.opsForValue().get(key);
+                    if (since != null) {
+                        users.put(key.substring(USER_PREFIX.length()), Long.parseLong(since));
+                    }
+                }
+            }
+            revokedJtis = next;
+            // 교체 전 맵에 메시지로 들어온 사용자 폐기도 유지 (refresh 토큰 수명이 지난 항목은 버림)
+            Map<String, Long> previous = revokedUsers;
+            revokedUsers = users;
+            long oldest = (System.currentTimeMillis() - jwtUtil.getRefreshExpiry()) / 1000;
+            previous.forEach((username, since) -> {
+                if (since > oldest) {
+                    users.merge(username, since, Math::max);
+                }
+            });
+            if (jtis > expectedRevocations) {
+                log.warn("폐기된 토큰 수({})가 Bloom 필터 예상 크기({})를 넘음 -> 오탐률 증가, jwt.revocation.expected-insertions 조정 필요",
+                        jtis, expectedRevocations);
+            }
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 목록 재구성 실패, 기존 사본 유지: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package com.example.my_board.service;
 
+import com.example.my_board.event.UserDeletedEvent;
+import com.example.my_board.model.dto.UserAccountDTO;
 import com.example.my_board.model.entity.UserAccount;
 import com.example.my_board.model.repository.UserAccountRepository;
+import com.example.my_board.util.CsvWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 // 2개
 @Service // Component
+@Timed("board.service") // public 메서드마다 실행 시간 (class, method, exception 태그)
 @RequiredArgsConstructor // final 처리 되어있는 필드들에 대한 생성자
 // -> 생성자 주입
 public class UserAccountService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_BATCH_SIZE = 1000;
 
     // 사용자 계정 데이터를 데이터베이스에서 조회/저장하기 위한 Repository
     private final UserAccountRepository userAccountRepository;
@@ -22,6 +36,9 @@ public class UserAccountService {
     // SecurityConfig에서 BCrypt 기반의 DelegatingPasswordEncoder로 설정됨
     private final PasswordEncoder passwordEncoder;
 
+    // 회원 삭제 후 캐시 정리 등을 위한 이벤트 발행
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 새로운 사용자를 등록하는 메서드
      * 사용자명 중복 검사, 비밀번호 암호화, 기본 권한 설정을 포함한 완전한 회원가입 처리
@@ -102,15 +119,45 @@ public class UserAccountService {
     //    @Transactional
     //    public void changePassword(String username, String oldPassword, String newPassword) { ... }
 
-    // 유저 전체를 조회하는 메서드
+    // 관리자 회원 목록 (username 접두어 검색 + 페이지), 비밀번호 해시는 읽지 않음
     @Transactional(readOnly = true)
-    public List<UserAccount> findAllUsers() {
-        return userAccountRepository.findAll();
+    public Slice<UserAccountDTO.Summary> findUsers(String prefix, int page, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), limit, Sort.by("username"));
+        return userAccountRepository.findByUsernameStartingWith(prefix.strip(), pageable);
+    }
+
+    // 회원 목록 CSV 내보내기 (id, username, role)
+    // username 키셋으로 EXPORT_BATCH_SIZE건씩 읽고 바로 쓰므로 회원 수와 상관없이 메모리 일정
+    public void exportUsers(String prefix, Writer out) throws IOException {
+        CsvWriter csv = new CsvWriter(out);
+        csv.writeRow(List.of("id", "username", "role"));
+        String normalized = prefix.strip();
+        String after = "";
+        PageRequest batch = PageRequest.of(0, EXPORT_BATCH_SIZE);
+        while (true) {
+            List<UserAccountDTO.Summary> users = userAccountRepository
+                    .findByUsernameStartingWithAndUsernameGreaterThanOrderByUsernameAsc(normalized, after, batch);
+            for (UserAccountDTO.Summary user : users) {
+                csv.writeRow(List.of(String.valueOf(user.getId()), user.getUsername(), user.getRole()));
+            }
+            csv.flush(); // 배치마다 클라이언트로 전송
+            if (users.size() < EXPORT_BATCH_SIZE) {
+                return;
+            }
+            after = users.get(users.size() - 1).getUsername();
+        }
     }
 
     // 유저를 탈퇴(삭제) 메서드
+    // 여기서는 계정을 비활성화만 함 (게시물이 많으면 한 트랜잭션으로 지울 수 없으므로)
+    // 커밋 후 UserDeletedEvent -> 사용자 캐시 제거, 토큰 폐기, UserPurgeService가 게시물과 계정을 배치로 삭제
+    // 이미 비활성화된 회원이면 정리만 다시 시작 (이전 정리가 실패한 경우)
     @Transactional
     public void deleteUser(Long id) {
-        userAccountRepository.deleteById(id);
+        userAccountRepository.findById(id).ifPresent(userAccount -> {
+            userAccount.setEnabled(false);
+            eventPublisher.publishEvent(new UserDeletedEvent(userAccount.getId(), userAccount.getUsername()));
+        });
     }
 }
\ No newline at end of file
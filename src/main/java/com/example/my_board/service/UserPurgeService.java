@@ -0,0 +1,258 @@
+package com.example.my_board.service;
+
+import com.example.my_board.event.PostChangedEvent;
+import com.example.my_board.event.PostsDeletedEvent;
+import com.example.my_board.event.UserDeletedEvent;
+import com.example.my_board.model.dto.UserAccountDTO;
+import com.example.my_board.model.repository.UserAccountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 탈퇴 회원 정리 (관리자 강제 탈퇴 후 백그라운드)
+ * 게시물이 많은 회원을 한 트랜잭션으로 지우면 오래 락을 잡고 undo 로그가 커지므로
+ * - 탈퇴 요청: 계정만 enabled = false (로그인/토큰 인증 즉시 차단, 토큰 폐기는 UserDeletedEvent 리스너들이 처리)
+ * - 이 서비스: post -> post_archive 순으로 batch-size건씩 지우고 배치마다 커밋, 배치 사이에 pause만큼 쉼
+ *   (게시물의 댓글도 같은 배치에서), 다음으로 회원이 다른 게시물에 단 댓글을 같은 방식으로
+ *   단, 답글이 달린 댓글은 지우지 않고 자리만 남김 (deleted, 내용/작성자 비움) -> 다른 회원의 답글 스레드 유지
+ * - 게시물/댓글이 모두 지워지면 마지막으로 계정 삭제
+ * - 한 번에 한 회원씩 (단일 스레드), 재시작 시 enabled = false로 남은 회원을 이어서 정리
+ */
+@Slf4j
+@Service
+public class UserPurgeService {
+    private static final List<String> POST_TABLES = List.of("post", "post_archive");
+    private static final String SELECT_SQL = "SELECT id FROM %s WHERE user_account_id = ? ORDER BY id LIMIT ?";
+    private static final String DELETE_SQL = "DELETE FROM %s WHERE id IN (%s)";
+    private static final String DELETE_COMMENTS_OF_POSTS_SQL = "DELETE FROM comment WHERE post_id IN (%s)";
+    // has_replies: 같은 게시물에 path가 이 댓글의 path로 시작하는 (더 긴) 댓글이 있는지
+    private static final String SELECT_COMMENTS_SQL = """
+            SELECT c.id, c.post_id, c.deleted,
+                   EXISTS (SELECT 1 FROM comment r
+                           WHERE r.post_id = c.post_id AND r.path LIKE CONCAT(c.path, '_%')) AS has_replies
+            FROM comment c WHERE c.user_account_id = ? ORDER BY c.id LIMIT ?
+            """;
+    private static final String PLACEHOLDER_SQL =
+            "UPDATE comment SET deleted = TRUE, content = '', user_account_id = NULL WHERE id IN (%s)";
+    private static final String DECREMENT_SQL =
+            "UPDATE %s SET comment_count = comment_count - ?, updated_at = ? WHERE id = ?";
+    private static final String DELETE_USER_SQL = "DELETE FROM user_account WHERE id = ? AND enabled = FALSE";
+    // 관리자 페이지에 남겨둘 최대 항목 수 (넘으면 끝난 항목부터 제거)
+    private static final int MAX_TRACKED = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration pause;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "user-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 회원 id -> 진행 상황 (요청 순서대로)
+    private final Map<Long, UserAccountDTO.PurgeProgress> progress = new LinkedHashMap<>();
+
+    public UserPurgeService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            UserAccountRepository userAccountRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${user.purge.batch-size:500}") int batchSize,
+            @Value("${user.purge.pause:100ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userAccountRepository = userAccountRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    public synchronized List<UserAccountDTO.PurgeProgress> getProgress() {
+        return List.copyOf(progress.values());
+    }
+
+    // 탈퇴 처리(enabled = false) 커밋 후 정리 시작
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        submit(event.userId(), event.username());
+    }
+
+    // 정리 도중 종료됐던 회원 이어서 정리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        for (UserAccountDTO.IdAndUsername user : userAccountRepository.findByEnabledFalse()) {
+            submit(user.getId(), user.getUsername());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 배치는 커밋 또는 롤백으로 끝나고, 남은 부분은 다음 시작 때 이어서
+        executor.shutdownNow();
+    }
+
+    private synchronized void submit(Long userId, String username) {
+        UserAccountDTO.PurgeProgress current = progress.get(userId);
+        if (current != null && (current.getStatus().equals("QUEUED") || current.getStatus().equals("RUNNING"))) {
+            return; // 이미 대기/진행 중
+        }
+        if (progress.size() >= MAX_TRACKED) {
+            progress.values().removeIf(p -> p.getStatus().equals("DONE"));
+        }
+        progress.remove(userId);
+        update(userId, username, "QUEUED", 0, 0, 0, 0, null);
+        executor.execute(() -> purge(userId, username));
+    }
+
+    private void purge(Long userId, String username) {
+        Run run = new Run(userId, username);
+        run.report("RUNNING", null);
+        try {
+            // 회원의 게시물 (그 게시물의 댓글 포함)
+            for (String table : POST_TABLES) {
+                drain(run, status -> deletePostBatch(table, userId), true);
+            }
+            // 다른 게시물에 단 댓글
+            drain(run, status -> deleteCommentBatch(userId), false);
+            jdbcTemplate.update(DELETE_USER_SQL, userId);
+            run.report("DONE", null);
+            log.info("탈퇴 회원 정리 완료: {} (게시물 {}건, 댓글 {}건, {}ms)",
+                    username, run.deletedPosts, run.deletedComments, run.elapsedMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.report("FAILED", "중단됨");
+        } catch (RuntimeException e) {
+            // 커밋된 배치는 그대로 두고 실패 표시 -> 관리자가 다시 탈퇴 처리하거나 재시작 시 이어서
+            run.report("FAILED", e.getMessage());
+            log.warn("탈퇴 회원 정리 실패: {} (게시물 {}건 삭제 후): {}", username, run.deletedPosts, e.getMessage());
+        }
+    }
+
+    // 남은 게 없을 때까지 배치 반복 (배치마다 커밋 + 진행 상황 갱신 + 휴식)
+    private void drain(Run run, TransactionCallback<Integer> batch, boolean posts) throws InterruptedException {
+        while (true) {
+            Integer count = transactionTemplate.execute(batch);
+            int deleted = count == null ? 0 : count;
+            if (deleted > 0) {
+                if (posts) {
+                    run.deletedPosts += deleted;
+                } else {
+                    run.deletedComments += deleted;
+                }
+                run.batches++;
+                run.report("RUNNING", null);
+            }
+            if (deleted < batchSize) {
+                return;
+            }
+            Thread.sleep(pause.toMillis());
+        }
+    }
+
+    // 한 배치 = 한 트랜잭션, 커밋 후 캐시/검색 색인/목록 버전 갱신
+    private int deletePostBatch(String table, Long userId) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_SQL.formatted(table), Long.class, userId, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update(DELETE_COMMENTS_OF_POSTS_SQL.formatted(placeholders), ids.toArray());
+        jdbcTemplate.update(DELETE_SQL.formatted(table, placeholders), ids.toArray());
+        eventPublisher.publishEvent(new PostsDeletedEvent(ids));
+        return ids.size();
+    }
+
+    // 회원이 단 댓글 batch-size건 -> 게시물별 댓글 수 감소 (post, 없으면 post_archive) 후
+    // 답글 없는 댓글은 삭제, 답글이 달린 댓글은 자리만 남김 (작성자가 비므로 다음 배치에서 다시 조회되지 않음)
+    private int deleteCommentBatch(Long userId) {
+        List<Long> leaves = new ArrayList<>();
+        List<Long> withReplies = new ArrayList<>();
+        Map<Long, Long> visibleByPost = new TreeMap<>(); // 게시물 id 순 -> 행 락 순서 일정
+        jdbcTemplate.query(SELECT_COMMENTS_SQL, rs -> {
+            (rs.getBoolean("has_replies") ? withReplies : leaves).add(rs.getLong("id"));
+            long delta = rs.getBoolean("deleted") ? 0 : 1;
+            visibleByPost.merge(rs.getLong("post_id"), delta, Long::sum);
+        }, userId, batchSize);
+        if (leaves.isEmpty() && withReplies.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> counts = new ArrayList<>();
+        visibleByPost.forEach((postId, visible) -> {
+            if (visible > 0) {
+                counts.add(new Object[]{visible, now, postId});
+            }
+        });
+        if (!counts.isEmpty()) {
+            int[] updated = jdbcTemplate.batchUpdate(DECREMENT_SQL.formatted("post"), counts);
+            List<Object[]> archived = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    archived.add(counts.get(i));
+                }
+            }
+            if (!archived.isEmpty()) {
+                jdbcTemplate.batchUpdate(DECREMENT_SQL.formatted("post_archive"), archived);
+            }
+        }
+        if (!withReplies.isEmpty()) {
+            jdbcTemplate.update(PLACEHOLDER_SQL.formatted(String.join(",", Collections.nCopies(withReplies.size(), "?"))),
+                    withReplies.toArray());
+        }
+        if (!leaves.isEmpty()) {
+            jdbcTemplate.update(DELETE_SQL.formatted("comment", String.join(",", Collections.nCopies(leaves.size(), "?"))),
+                    leaves.toArray());
+        }
+        visibleByPost.keySet().forEach(postId ->
+                eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.COMMENTED)));
+        return leaves.size() + withReplies.size();
+    }
+
+    // 한 회원의 정리 진행 상황 (정리 스레드에서만 갱신)
+    private class Run {
+        private final Long userId;
+        private final String username;
+        private final long started = System.currentTimeMillis();
+        private long deletedPosts;
+        private long deletedComments;
+        private long batches;
+
+        Run(Long userId, String username) {
+            this.userId = userId;
+            this.username = username;
+        }
+
+        long elapsedMillis() {
+            return System.currentTimeMillis() - started;
+        }
+
+        void report(String status, String error) {
+            update(userId, username, status, deletedPosts, deletedComments, batches, elapsedMillis(), error);
+        }
+    }
+
+    private synchronized void update(Long userId, String username, String status, long deletedPosts,
+                                     long deletedComments, long batches, long elapsedMillis, String error) {
+        progress.put(userId, new UserAccountDTO.PurgeProgress(
+                userId, username, status, deletedPosts, deletedComments, batches, elapsedMillis, error));
+    }
+}
@@ -1,37 +1,62 @@
 package com.example.my_board.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtUtil {
+    // 한 요청 안에서 파싱한 클레임을 필터끼리 공유하기 위한 request attribute 이름
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".CLAIMS";
+
     private final SecretKey secretKey;
     private final Long accessExpiry;
     private final Long refreshExpiry;
-
+    // 파서는 한 번만 만들어서 재사용 (불변 객체라 여러 스레드에서 같이 써도 됨)
+    private final JwtParser jwtParser;
+    // 검증이 끝난 토큰 -> 클레임 캐시 (키: 토큰의 SHA-256 해시)
+    // 같은 토큰이 다시 오면 HMAC 서명 검증과 JSON 파싱을 건너뜀, 토큰 만료 시각이 지나면 자동 제거
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiry.access}") Long accessExpiry,
-            @Value("${jwt.expiry.refresh}") Long refreshExpiry) {
+            @Value("${jwt.expiry.refresh}") Long refreshExpiry,
+            @Value("${jwt.token-cache.max-size:10000}") long tokenCacheSize,
+            @Value("${jwt.token-cache.max-ttl:5m}") Duration tokenCacheTtl) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessExpiry = accessExpiry;
         this.refreshExpiry = refreshExpiry;
-        System.out.println("secret = " + secret);
-        System.out.println("accessExpiry = " + accessExpiry);
-        System.out.println("refreshExpiry = " + refreshExpiry);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheSize)
+                .expireAfter(new TokenExpiry(tokenCacheTtl))
+                .build();
     }
 
     public String generateToken(String username, String role, boolean isRefresh) {
         return Jwts.builder()
                 // ----
+                .id(UUID.randomUUID().toString()) // jti: 토큰 하나만 폐기할 때 사용 (TokenRevocationService)
                 .subject(username)
                 .claim("role", role)
                 .issuedAt(new Date())
@@ -41,12 +66,36 @@ public class JwtUtil {
                 .compact();
     }
 
+    public Long getAccessExpiry() {
+        return accessExpiry;
+    }
+
+    public Long getRefreshExpiry() {
+        return refreshExpiry;
+    }
+
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        // 만료/위조 토큰은 여기서 예외 (ExpiredJwtException 등) -> 캐시에 들어가지 않음
+        Claims claims = jwtParser
                 .parseSignedClaims(token)
                 .getPayload(); // 데이터
+        verifiedTokens.put(key, claims);
+        return claims;
+    }
+
+    // 같은 요청 안에서는 처음 파싱한 결과를 재사용 (RefreshJwtFilter -> JwtFilter)
+    public Claims getClaims(HttpServletRequest request, String token) {
+        if (request.getAttribute(CLAIMS_ATTRIBUTE) instanceof ParsedToken parsed && parsed.token().equals(token)) {
+            return parsed.claims();
+        }
+        Claims claims = getClaims(token);
+        request.setAttribute(CLAIMS_ATTRIBUTE, new ParsedToken(token, claims));
+        return claims;
     }
 
     public String getUsername(String token) {
@@ -57,6 +106,27 @@ public class JwtUtil {
         return getClaims(token).get("role", String.class);
     }
 
+    // 권한 목록 -> role 클레임 문자열 ("ROLE_USER" 또는 "ROLE_USER,ROLE_ADMIN")
+    // Collection.toString()의 "[ROLE_USER]" 형태는 다시 파싱하기 번거로우므로 사용 X
+    public static String toRoleClaim(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+    }
+
+    // role 클레임 -> 권한 목록 (예전 토큰의 "[ROLE_USER]" 형태도 허용)
+    public List<GrantedAuthority> getAuthorities(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (role == null) {
+            return List.of();
+        }
+        return Arrays.stream(role.replace("[", "").replace("]", "").split(","))
+                .map(String::trim)
+                .filter(r -> !r.isEmpty())
+                .map(r -> (GrantedAuthority) new SimpleGrantedAuthority(r))
+                .toList();
+    }
+
     public  boolean validateToken(String token) {
         try {
             getClaims(token);
@@ -66,4 +136,40 @@ public class JwtUtil {
         }
     }
 
-}
\ No newline at end of file
+    // 토큰 원문 대신 해시를 캐시 키/저장 값으로 사용 (메모리/Redis에 토큰 원문을 남기지 않도록)
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ParsedToken(String token, Claims claims) {
+    }
+
+    // 캐시 항목 수명 = min(토큰 남은 유효시간, maxTtl)
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long maxNanos = maxTtl.toNanos();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxNanos;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return Math.max(0L, Math.min(maxNanos, Duration.ofMillis(remainingMillis).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
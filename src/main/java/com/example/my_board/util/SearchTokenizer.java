@@ -0,0 +1,89 @@
+package com.example.my_board.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토크나이저
+ * - 한글/한자/가나 연속 구간: 2-gram (+ 1-gram) -> 형태소 분석기 없이 "게시판" 으로 "게시" 검색 가능
+ * - 영문/숫자 연속 구간: 소문자 단어 하나
+ * - 그 외 문자(공백, 기호 등)는 구분자
+ */
+public class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    // 색인용: 한글 구간은 1-gram, 2-gram 모두 생성
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 검색어용: 두 글자 이상 한글 구간은 2-gram만 사용 (1-gram은 잡음이 많아 랭킹을 흐림)
+    public static List<String> tokenizeQuery(String query) {
+        return tokenize(query, true);
+    }
+
+    private static List<String> tokenize(String text, boolean query) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder word = new StringBuilder();
+        List<Integer> cjkRun = new ArrayList<>();
+        int i = 0;
+        while (i < normalized.length()) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+            if (isCjk(cp)) {
+                flushWord(word, tokens);
+                cjkRun.add(cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flushCjk(cjkRun, tokens, query);
+                word.appendCodePoint(cp);
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjkRun, tokens, query);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjk(cjkRun, tokens, query);
+        return tokens;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(List<Integer> run, List<String> tokens, boolean query) {
+        for (int j = 0; j < run.size(); j++) {
+            // 1-gram: 한 글자 검색어용
+            if (!query || run.size() == 1) {
+                tokens.add(new String(Character.toChars(run.get(j))));
+            }
+            // 2-gram
+            if (j + 1 < run.size()) {
+                tokens.add(new StringBuilder()
+                        .appendCodePoint(run.get(j))
+                        .appendCodePoint(run.get(j + 1))
+                        .toString());
+            }
+        }
+        run.clear();
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.my_board.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개(primary / replica)로 라우팅 확인
+ * 각 DB의 node 테이블에 자기 이름을 넣어두고, 어느 DB에서 읽었는지 조회 결과로 판단
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final DataSource primary = database("routing_primary", "primary");
+    private final DataSource replicaA = database("routing_replica_a", "replica-a");
+    private final DataSource replicaB = database("routing_replica_b", "replica-b");
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        Routing routing = new Routing(List.of(replicaA));
+
+        assertThat(routing.read()).isEqualTo("replica-a");
+        assertThat(routing.write()).isEqualTo("primary");
+        assertThat(routing.outsideTransaction()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsAreSpreadAcrossReplicasRoundRobin() {
+        Routing routing = new Routing(List.of(replicaA, replicaB));
+
+        assertThat(List.of(routing.read(), routing.read(), routing.read(), routing.read()))
+                .containsExactly("replica-a", "replica-b", "replica-a", "replica-b");
+    }
+
+    @Test
+    void unhealthyReplicaIsSkippedUntilItRecovers() {
+        DataSource broken = new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", "sa", "");
+        Routing routing = new Routing(List.of(broken, replicaB));
+
+        routing.dataSource.checkReplicas();
+
+        assertThat(routing.dataSource.isHealthy(0)).isFalse();
+        assertThat(routing.dataSource.isHealthy(1)).isTrue();
+        assertThat(List.of(routing.read(), routing.read())).containsOnly("replica-b");
+    }
+
+    @Test
+    void allReplicasDownFallsBackToPrimary() {
+        DataSource broken = new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", "sa", "");
+        Routing routing = new Routing(List.of(broken));
+
+        routing.dataSource.checkReplicas();
+
+        assertThat(routing.read()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsAfterOwnWriteInSameRequestGoToPrimaryAndCookieIsSet() {
+        Routing routing = new Routing(List.of(replicaA));
+        MockHttpServletResponse response = bindRequest(new MockHttpServletRequest());
+
+        routing.write();
+
+        assertThat(routing.read()).isEqualTo("primary");
+        assertThat(response.getCookie(ReplicaRoutingDataSource.READ_YOUR_WRITES_COOKIE)).isNotNull();
+    }
+
+    @Test
+    void readYourWritesCookieKeepsReadsOnPrimaryUntilItExpires() {
+        Routing routing = new Routing(List.of(replicaA));
+
+        MockHttpServletRequest recent = new MockHttpServletRequest();
+        recent.setCookies(new Cookie(ReplicaRoutingDataSource.READ_YOUR_WRITES_COOKIE,
+                String.valueOf(System.currentTimeMillis() + 3000)));
+        bindRequest(recent);
+        assertThat(routing.read()).isEqualTo("primary");
+
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.setCookies(new Cookie(ReplicaRoutingDataSource.READ_YOUR_WRITES_COOKIE,
+                String.valueOf(System.currentTimeMillis() - 1)));
+        bindRequest(expired);
+        assertThat(routing.read()).isEqualTo("replica-a");
+    }
+
+    @Test
+    void readsInsideUsePrimaryGoToPrimary() {
+        Routing routing = new Routing(List.of(replicaA));
+
+        assertThat(ReplicaRoutingDataSource.usePrimary(routing::read)).isEqualTo("primary");
+        assertThat(routing.read()).isEqualTo("replica-a");
+    }
+
+    private static MockHttpServletResponse bindRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static DataSource database(String name, String node) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", node);
+        return dataSource;
+    }
+
+    // 애플리케이션과 같은 구성: 라우팅 -> LazyConnectionDataSourceProxy -> 트랜잭션 매니저
+    private class Routing {
+        final ReplicaRoutingDataSource dataSource;
+        final JdbcTemplate jdbc;
+        final TransactionTemplate readOnly;
+        final TransactionTemplate readWrite;
+
+        Routing(List<DataSource> replicas) {
+            dataSource = new ReplicaRoutingDataSource(primary, replicas, WINDOW);
+            DataSource lazy = new LazyConnectionDataSourceProxy(dataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(lazy);
+            jdbc = new JdbcTemplate(lazy);
+            readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        String read() {
+            return readOnly.execute(status -> node());
+        }
+
+        String write() {
+            return readWrite.execute(status -> node());
+        }
+
+        String outsideTransaction() {
+            return node();
+        }
+
+        private String node() {
+            return jdbc.queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+}
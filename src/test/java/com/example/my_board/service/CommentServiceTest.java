@@ -0,0 +1,111 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.JpaConfig;
+import com.example.my_board.model.dto.CommentDTO;
+import com.example.my_board.model.entity.Post;
+import com.example.my_board.model.entity.UserAccount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 스레드: path 순서 = 스레드 순서, 최상위 댓글 기준 페이지, 답글 깊이와 상관없이 SQL 수 일정
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CommentService.class, JpaConfig.class})
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        UserAccount author = PostFixtures.author(entityManager, "author");
+        postId = PostFixtures.post(entityManager, author, "title", "content").getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void threadIsReturnedInPathOrderAndPagedByRootComment() {
+        Long first = comment(null, "1");
+        Long second = comment(null, "2");
+        Long reply = comment(first, "1-1");
+        comment(reply, "1-1-1");
+        comment(first, "1-2");
+        comment(second, "2-1");
+        Long third = comment(null, "3");
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CommentDTO.ThreadPage page = commentService.findThreads(postId, null, 2);
+
+        assertThat(contents(page)).containsExactly("1", "1-1", "1-1-1", "1-2", "2", "2-1");
+        assertThat(page.getItems()).extracting(CommentDTO.View::getDepth).containsExactly(0, 1, 2, 1, 0, 1);
+        assertThat(page.getNextCursor()).isEqualTo(second);
+        // 최상위 댓글 경계 조회 + 스레드 범위 조회 (답글 깊이/개수와 무관)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        CommentDTO.ThreadPage next = commentService.findThreads(postId, page.getNextCursor(), 2);
+        assertThat(contents(next)).containsExactly("3");
+        assertThat(next.getItems().get(0).getId()).isEqualTo(third);
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    void commentCountIsMaintainedOnCreateAndDelete() {
+        Long first = comment(null, "1");
+        comment(first, "1-1");
+        commentService.delete(postId, first, "author", false);
+        commentService.delete(postId, first, "author", false); // 이미 삭제된 댓글은 다시 세지 않음
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.find(Post.class, postId).getCommentCount()).isEqualTo(1);
+        // 답글이 있는 댓글은 자리만 남음
+        CommentDTO.ThreadPage page = commentService.findThreads(postId, null, 10);
+        assertThat(page.getItems()).extracting(CommentDTO.View::isDeleted).containsExactly(true, false);
+    }
+
+    @Test
+    void postEditDoesNotOverwriteCommentCount() {
+        entityManager.clear();
+        Post post = entityManager.find(Post.class, postId); // 게시글 수정이 글을 읽은 시점
+        comment(null, "1"); // 수정이 커밋되기 전에 댓글 작성이 먼저 반영됨
+        post.setTitle("edited");
+        entityManager.flush();
+        entityManager.clear();
+
+        Post saved = entityManager.find(Post.class, postId);
+        assertThat(saved.getTitle()).isEqualTo("edited");
+        assertThat(saved.getCommentCount()).isEqualTo(1);
+    }
+
+    private Long comment(Long parentId, String content) {
+        CommentDTO.Request request = new CommentDTO.Request();
+        request.setParentId(parentId);
+        request.setContent(content);
+        return commentService.create(postId, request, "author").getId();
+    }
+
+    private static List<String> contents(CommentDTO.ThreadPage page) {
+        return page.getItems().stream().map(CommentDTO.View::getContent).toList();
+    }
+}
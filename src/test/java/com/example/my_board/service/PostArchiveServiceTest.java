@@ -0,0 +1,110 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.JpaConfig;
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.entity.UserAccount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오래된 게시물을 post_archive로 옮기는 작업, 옮긴 뒤의 상세 조회/수정/삭제
+ * (두 테이블을 이어서 읽는 목록 페이징은 PostServicePagingTest)
+ */
+@DataJpaTest
+@Import({PostService.class, JpaConfig.class})
+class PostArchiveServiceTest {
+
+    private static final int POSTS = 10;
+    private static final int OLD_POSTS = 4;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PostArchiveService postArchiveService;
+    // 최신순 (created_at desc, id desc)
+    private final List<Long> newestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserAccount author = PostFixtures.author(entityManager, "author");
+        List<Long> ids = PostFixtures.posts(entityManager, List.of(author), POSTS);
+
+        // 앞의 OLD_POSTS개는 1년 전, 나머지는 최근 (i가 클수록 최신)
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < POSTS; i++) {
+            LocalDateTime createdAt = (i < OLD_POSTS ? now.minusDays(365) : now.minusDays(1)).plusMinutes(i);
+            PostFixtures.createdAt(jdbcTemplate, ids.get(i), createdAt);
+        }
+        for (int i = POSTS - 1; i >= 0; i--) {
+            newestFirst.add(ids.get(i));
+        }
+        postArchiveService = new PostArchiveService(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                true, Duration.ofDays(180), 3, Duration.ZERO);
+    }
+
+    @Test
+    void movesOnlyPostsOlderThanRetentionInBatches() {
+        assertThat(postArchiveService.archive()).isEqualTo(OLD_POSTS);
+
+        assertThat(count("post")).isEqualTo(POSTS - OLD_POSTS);
+        assertThat(count("post_archive")).isEqualTo(OLD_POSTS);
+        assertThat(postArchiveService.archive()).isZero();
+    }
+
+    // 대량 등록: 등록한 트랜잭션 안에서 옮김 (테스트 트랜잭션 = 등록 트랜잭션)
+    @Test
+    void moveExpiredMovesOldRowsWithinCallersTransaction() {
+        assertThat(postArchiveService.isExpired(LocalDateTime.now().minusDays(365))).isTrue();
+        assertThat(postArchiveService.isExpired(LocalDateTime.now().minusDays(1))).isFalse();
+
+        assertThat(postArchiveService.moveExpired()).isEqualTo(OLD_POSTS);
+
+        assertThat(count("post")).isEqualTo(POSTS - OLD_POSTS);
+        assertThat(count("post_archive")).isEqualTo(OLD_POSTS);
+    }
+
+    @Test
+    void archivedPostIsReadableButNotEditable() {
+        postArchiveService.archive();
+        Long archivedId = newestFirst.get(POSTS - 1);
+
+        PostDTO.Detail detail = postService.findDetail(archivedId);
+        assertThat(detail.isArchived()).isTrue();
+        assertThat(detail.getAuthorUsername()).isEqualTo("author");
+
+        postService.deletePost(newestFirst.get(POSTS - 2), "author", false);
+        assertThat(count("post_archive")).isEqualTo(OLD_POSTS - 1);
+
+        PostDTO.Request request = new PostDTO.Request();
+        request.setTitle("new title");
+        request.setContent("new content");
+        assertThatThrownBy(() -> postService.updatePost(archivedId, request, "author"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private long count(String table) {
+        entityManager.flush();
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.my_board.service;
+
+import com.example.my_board.model.entity.Post;
+import com.example.my_board.model.entity.UserAccount;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서비스 테스트 공용 데이터: 작성자, 게시물 저장
+ */
+final class PostFixtures {
+
+    private PostFixtures() {
+    }
+
+    static UserAccount author(EntityManager entityManager, String username) {
+        UserAccount author = new UserAccount();
+        author.setUsername(username);
+        author.setPassword("{noop}password");
+        author.setRole("ROLE_USER");
+        entityManager.persist(author);
+        return author;
+    }
+
+    static Post post(EntityManager entityManager, UserAccount author, String title, String content) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(content);
+        post.setExcerpt(Post.excerptOf(content));
+        post.setAuthor(author);
+        entityManager.persist(post);
+        return post;
+    }
+
+    // 작성일 직접 지정 (Auditing이 채운 값을 덮어씀, 보관 기준/정렬 순서 테스트용)
+    static void createdAt(JdbcTemplate jdbcTemplate, Long id, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE post SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), id);
+    }
+
+    // count개 작성 ("title i" / "content i", 작성자는 돌아가며) -> 작성 순서대로 id
+    // 끝나면 flush + clear (영속성 컨텍스트에 남은 엔티티로 조회가 가려지지 않도록)
+    static List<Long> posts(EntityManager entityManager, List<UserAccount> authors, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(post(entityManager, authors.get(i % authors.size()), "title " + i, "content " + i).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
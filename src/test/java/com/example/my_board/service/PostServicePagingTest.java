@@ -0,0 +1,94 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.JpaConfig;
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.entity.UserAccount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시물 목록 커서 페이징: post -> post_archive를 이어서 최신순, 이전 페이지, 없는 커서
+ */
+@DataJpaTest
+@Import({PostService.class, JpaConfig.class})
+class PostServicePagingTest {
+
+    private static final int POSTS = 10;
+    private static final int OLD_POSTS = 4;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 최신순 (created_at desc, id desc)
+    private final List<Long> newestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        UserAccount author = PostFixtures.author(entityManager, "author");
+        List<Long> ids = PostFixtures.posts(entityManager, List.of(author), POSTS);
+
+        // 앞의 OLD_POSTS개는 1년 전 (보관 대상), 나머지는 최근 (i가 클수록 최신)
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < POSTS; i++) {
+            LocalDateTime createdAt = (i < OLD_POSTS ? now.minusDays(365) : now.minusDays(1)).plusMinutes(i);
+            PostFixtures.createdAt(jdbcTemplate, ids.get(i), createdAt);
+        }
+        for (int i = POSTS - 1; i >= 0; i--) {
+            newestFirst.add(ids.get(i));
+        }
+        new PostArchiveService(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                true, Duration.ofDays(180), 3, Duration.ZERO).archive();
+    }
+
+    @Test
+    void pagesReadAcrossHotAndArchiveInOrder() {
+        List<Long> forward = new ArrayList<>();
+        List<Long> cursors = new ArrayList<>();
+        Long after = null;
+        do {
+            PostDTO.CursorPage<PostDTO.Summary> page = postService.findPage(after, null, 4);
+            page.getItems().forEach(post -> forward.add(post.getId()));
+            cursors.add(page.getPrevCursor());
+            after = page.getNextCursor();
+        } while (after != null);
+        assertThat(forward).isEqualTo(newestFirst);
+
+        // 보관 게시물이 커서인 이전 페이지 -> 보관 테이블 다음에 post에서 이어서
+        PostDTO.CursorPage<PostDTO.Summary> prev = postService.findPage(null, cursors.get(cursors.size() - 1), 4);
+        assertThat(prev.getItems()).extracting(PostDTO.Summary::getId)
+                .isEqualTo(newestFirst.subList(4, 8));
+        assertThat(prev.hasPrev()).isTrue();
+    }
+
+    // 삭제된 게시물이 커서인 오래된 링크 -> 오류 대신 첫 페이지
+    @Test
+    void missingCursorFallsBackToFirstPage() {
+        for (PostDTO.CursorPage<PostDTO.Summary> page : List.of(
+                postService.findPage(Long.MAX_VALUE, null, 4),
+                postService.findPage(null, Long.MAX_VALUE, 4))) {
+            assertThat(page.getItems()).extracting(PostDTO.Summary::getId)
+                    .isEqualTo(newestFirst.subList(0, 4));
+            assertThat(page.hasPrev()).isFalse();
+        }
+    }
+}
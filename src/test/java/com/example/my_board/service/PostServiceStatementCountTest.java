@@ -0,0 +1,95 @@
+package com.example.my_board.service;
+
+import com.example.my_board.config.JpaConfig;
+import com.example.my_board.model.dto.PostDTO;
+import com.example.my_board.model.entity.UserAccount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시물 화면에 필요한 데이터(작성자 이름 포함)를 읽을 때 실행되는 SQL 수
+ * 페이지 크기와 상관없이 일정해야 함 (게시물마다 user_account 조회 = N+1)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PostService.class, JpaConfig.class})
+class PostServiceStatementCountTest {
+
+    private static final int POSTS = 60;
+    private static final int AUTHORS = 7;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<UserAccount> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(PostFixtures.author(entityManager, "author" + i));
+        }
+        postIds.addAll(PostFixtures.posts(entityManager, authors, POSTS));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 50})
+    void firstPageIsOneStatementRegardlessOfSize(int size) {
+        PostDTO.CursorPage<PostDTO.Summary> page = postService.findPage(null, null, size);
+        List<String> authors = render(page);
+
+        assertThat(authors).hasSize(size).allMatch(name -> name.startsWith("author"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 50})
+    void cursorPageIsTwoStatementsRegardlessOfSize(int size) {
+        PostDTO.CursorPage<PostDTO.Summary> page = postService.findPage(postIds.get(POSTS - 1), null, size);
+        List<String> authors = render(page);
+
+        assertThat(authors).hasSize(size);
+        // 커서의 created_at 조회 + 목록 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void detailIsOneStatementIncludingAuthor() {
+        PostDTO.Detail detail = postService.findDetail(postIds.get(0));
+
+        assertThat(detail.getAuthorUsername()).isEqualTo("author0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    // 템플릿이 읽는 값을 모두 읽음 (지연 로딩이 있으면 여기서 SQL이 추가됨)
+    private static List<String> render(PostDTO.CursorPage<PostDTO.Summary> page) {
+        List<String> authors = new ArrayList<>();
+        for (PostDTO.Summary post : page.getItems()) {
+            assertThat(post.getTitle()).isNotNull();
+            assertThat(post.getCreatedAt()).isNotNull();
+            authors.add(post.getAuthorUsername());
+        }
+        return authors;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.my_board.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class PostViewCountServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PostViewCountService service = new PostViewCountService(jdbcTemplate);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesAccumulatedDeltasInOneBatchOrderedById() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+        service.increment(2L);
+        service.increment(1L);
+        service.increment(2L);
+
+        service.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).containsExactly(new Object[]{1L, 1L}, new Object[]{2L, 2L});
+        assertThat(service.pending(1L)).isZero();
+        assertThat(service.pending(2L)).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rowsMissingFromHotTableAreWrittenToArchive() {
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE post "), anyList())).thenReturn(new int[]{1, 0});
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE post_archive "), anyList())).thenReturn(new int[]{1});
+        service.increment(1L);
+        service.increment(2L);
+        service.increment(2L);
+
+        service.flush();
+
+        ArgumentCaptor<List<Object[]>> archived = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE post_archive "), archived.capture());
+        assertThat(archived.getValue()).containsExactly(new Object[]{2L, 2L});
+        assertThat(service.pending(2L)).isZero();
+    }
+
+    // 상세 캐시의 조회수는 그대로인데 반영으로 pending이 0이 돼도 표시 값이 줄지 않음
+    @Test
+    void displayedCountDoesNotDropAfterFlush() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        ResultSet row = mock(ResultSet.class);
+        when(row.getLong("id")).thenReturn(1L);
+        when(row.getLong("view_count")).thenReturn(42L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id, view_count FROM post "),
+                any(RowCallbackHandler.class), any(Object[].class));
+        service.increment(1L);
+        service.increment(1L);
+        assertThat(service.viewCount(1L, 40L)).isEqualTo(42L);
+
+        service.flush();
+        assertThat(service.viewCount(1L, 40L)).isEqualTo(42L);
+
+        service.increment(1L);
+        assertThat(service.viewCount(1L, 40L)).isEqualTo(43L);
+    }
+
+    @Test
+    void nothingIsWrittenWhenThereAreNoViews() {
+        service.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForTheNextFlush() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(new int[]{1});
+        service.increment(1L);
+        service.increment(1L);
+
+        service.flush();
+        assertThat(service.pending(1L)).isEqualTo(2L);
+
+        service.flush();
+        assertThat(service.pending(1L)).isZero();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    // 조회와 반영이 동시에 일어나도 (DB 반영분 + 남은 증가분) == 전체 조회수 -> 정상 동작 중에는 유실 없음
+    // 유실은 프로세스가 강제 종료될 때 아직 반영되지 않은 증가분(최대 flush-interval 동안)으로 한정됨
+    @Test
+    void concurrentIncrementsAreNeverLostAcrossFlushes() throws Exception {
+        AtomicLong persisted = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> persisted.addAndGet((Long) row[0]));
+            int[] updated = new int[rows.size()];
+            Arrays.fill(updated, 1);
+            return updated;
+        });
+
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<Runnable> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tasks.add(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    service.increment((long) (i % 3));
+                }
+                done.countDown();
+            });
+        }
+        tasks.forEach(executor::execute);
+        while (done.getCount() > 0) {
+            service.flush();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        long remaining = service.pending(0L) + service.pending(1L) + service.pending(2L);
+        assertThat(persisted.get() + remaining).isEqualTo((long) threads * perThread);
+
+        service.flush();
+        assertThat(persisted.get()).isEqualTo((long) threads * perThread);
+    }
+
+    // 조회가 드문 게시물: 한 주기 동안 조회가 없으면 반영 중에 카운터가 맵에서 제거됨
+    // 제거되는 순간 그 카운터를 잡고 있던 조회도 이번 또는 다음 반영에 포함돼야 함
+    @Test
+    void incrementsOnColdKeysRemovedDuringFlushAreNeverLost() throws Exception {
+        AtomicLong persisted = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> persisted.addAndGet((Long) row[0]));
+            int[] updated = new int[rows.size()];
+            Arrays.fill(updated, 1);
+            return updated;
+        });
+
+        int threads = 8;
+        int perThread = 20_000;
+        int keys = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            executor.execute(() -> {
+                // 스레드마다 다른 순서로 넓은 범위의 id를 드문드문 조회
+                for (int i = 0; i < perThread; i++) {
+                    service.increment((seed * 7919 + (long) i * 31) % keys);
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            service.flush();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        service.flush();
+        service.flush();
+        assertThat(persisted.get()).isEqualTo((long) threads * perThread);
+    }
+}